@@ -1,12 +1,15 @@
 package io.kaoto.camelcatalog;
 
 import java.io.InputStream;
+import java.util.Arrays;
 import java.util.logging.LogManager;
 import java.util.logging.Logger;
 
 import io.kaoto.camelcatalog.beans.ConfigBean;
 import io.kaoto.camelcatalog.commands.GenerateCommand;
 import io.kaoto.camelcatalog.commands.GenerateCommandOptions;
+import io.kaoto.camelcatalog.commands.PrefetchCommand;
+import io.kaoto.camelcatalog.commands.PrefetchCommandOptions;
 
 public class Main {
     private static final Logger LOGGER;
@@ -26,6 +29,33 @@ public class Main {
     }
 
     public static void main(String[] args) {
+        if (args.length > 0 && PrefetchCommandOptions.COMMAND.equals(args[0])) {
+            String[] prefetchArgs = Arrays.copyOfRange(args, 1, args.length);
+            ConfigBean configBean = new ConfigBean();
+            PrefetchCommandOptions prefetchCommandOptions = new PrefetchCommandOptions(configBean);
+
+            try {
+                prefetchCommandOptions.configure(prefetchArgs);
+            } catch (Exception e) {
+                LOGGER.severe("Error: " + e.getMessage());
+                prefetchCommandOptions.printHelp();
+                exit(EXIT_CODE_FAILURE);
+                return;
+            }
+
+            /* Unlike the generation, an incomplete prefetch is reported as a failure */
+            try {
+                new PrefetchCommand(configBean).run();
+            } catch (RuntimeException e) {
+                LOGGER.severe("Error: " + e.getMessage());
+                exit(EXIT_CODE_FAILURE);
+                return;
+            }
+
+            exit(EXIT_CODE_SUCCESS);
+            return;
+        }
+
         ConfigBean configBean = new ConfigBean();
         GenerateCommandOptions generateCommandOptions = new GenerateCommandOptions(configBean);
         int exitCode = EXIT_CODE_SUCCESS;
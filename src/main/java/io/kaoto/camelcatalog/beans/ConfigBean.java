@@ -4,14 +4,22 @@ import java.io.File;
 import java.util.LinkedHashSet;
 import java.util.Set;
 
+import io.kaoto.camelcatalog.maven.ResolutionProfile;
 import io.kaoto.camelcatalog.model.CatalogCliArgument;
 
 public class ConfigBean {
     private File outputFolder;
+    private File cacheFolder;
     private String catalogsName;
     private Set<CatalogCliArgument> catalogVersionSet = new LinkedHashSet<>();
     private String kameletsVersion;
     private boolean verbose = false;
+    private int jobs = 1;
+    private String kubernetesSchemaUrl;
+    private boolean refreshKubernetesSchema;
+    private File repositoryFolder;
+    private boolean offline;
+    private ResolutionProfile resolutionProfile = ResolutionProfile.FULL;
 
     public ConfigBean() {
     }
@@ -24,6 +32,14 @@ public class ConfigBean {
         this.outputFolder = new File(outputFolder);
     }
 
+    public File getCacheFolder() {
+        return cacheFolder;
+    }
+
+    public void setCacheFolder(String cacheFolder) {
+        this.cacheFolder = cacheFolder == null ? null : new File(cacheFolder);
+    }
+
     public String getCatalogsName() {
         return catalogsName;
     }
@@ -55,4 +71,52 @@ public class ConfigBean {
     public void setVerbose(boolean verbose) {
         this.verbose = verbose;
     }
+
+    public int getJobs() {
+        return jobs;
+    }
+
+    public void setJobs(int jobs) {
+        this.jobs = jobs;
+    }
+
+    public String getKubernetesSchemaUrl() {
+        return kubernetesSchemaUrl;
+    }
+
+    public void setKubernetesSchemaUrl(String kubernetesSchemaUrl) {
+        this.kubernetesSchemaUrl = kubernetesSchemaUrl;
+    }
+
+    public boolean isRefreshKubernetesSchema() {
+        return refreshKubernetesSchema;
+    }
+
+    public void setRefreshKubernetesSchema(boolean refreshKubernetesSchema) {
+        this.refreshKubernetesSchema = refreshKubernetesSchema;
+    }
+
+    public File getRepositoryFolder() {
+        return repositoryFolder;
+    }
+
+    public void setRepositoryFolder(String repositoryFolder) {
+        this.repositoryFolder = repositoryFolder == null ? null : new File(repositoryFolder);
+    }
+
+    public boolean isOffline() {
+        return offline;
+    }
+
+    public void setOffline(boolean offline) {
+        this.offline = offline;
+    }
+
+    public ResolutionProfile getResolutionProfile() {
+        return resolutionProfile;
+    }
+
+    public void setResolutionProfile(ResolutionProfile resolutionProfile) {
+        this.resolutionProfile = resolutionProfile;
+    }
 }
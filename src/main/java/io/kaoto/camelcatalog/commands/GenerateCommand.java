@@ -3,14 +3,30 @@ package io.kaoto.camelcatalog.commands;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import io.kaoto.camelcatalog.beans.ConfigBean;
+import io.kaoto.camelcatalog.generator.ArtifactStore;
 import io.kaoto.camelcatalog.generator.CatalogGeneratorBuilder;
 import io.kaoto.camelcatalog.generator.Util;
+import io.kaoto.camelcatalog.maven.KubernetesSchemaSource;
+import io.kaoto.camelcatalog.maven.MavenArtifactResolver;
+import io.kaoto.camelcatalog.model.CatalogCliArgument;
 import io.kaoto.camelcatalog.model.CatalogDefinition;
 import io.kaoto.camelcatalog.model.CatalogLibrary;
+import io.kaoto.camelcatalog.model.Constants;
 import org.apache.commons.io.FileUtils;
 
 import java.io.File;
 import java.io.IOException;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.logging.Level;
 import java.util.logging.Logger;
 
 public class GenerateCommand implements Runnable {
@@ -25,41 +41,56 @@ public class GenerateCommand implements Runnable {
     public void run() {
         LOGGER.info("Output folder: " + configBean.getOutputFolder() + "\n" +
                 "Catalog versions: " + configBean.getCatalogVersionSet() + "\n" +
-                "Kamelets version: " + configBean.getKameletsVersion());
+                "Kamelets version: " + configBean.getKameletsVersion() + "\n" +
+                "Cache folder: " + configBean.getCacheFolder() + "\n" +
+                "Offline repository: " + (configBean.isOffline() ? configBean.getRepositoryFolder() : null) + "\n" +
+                "Jobs: " + configBean.getJobs() + "\n" +
+                "Resolution profile: " + configBean.getResolutionProfile());
 
         CatalogLibrary library = new CatalogLibrary(3, configBean.getCatalogsName());
 
         FileUtils.deleteQuietly(configBean.getOutputFolder());
         File outputFolder = createSubFolder(configBean.getOutputFolder());
 
-        configBean.getCatalogVersionSet()
-                .forEach(catalogCliArg -> {
-                    String runtimeFolderName = "camel-" + catalogCliArg.getRuntime().name().toLowerCase();
-                    File runtimeFolder = createSubFolder(outputFolder, runtimeFolderName);
-                    File catalogDefinitionFolder = createSubFolder(runtimeFolder, catalogCliArg.getCatalogVersion());
-
-                    LOGGER.info("-------------------------------------------\n");
-                    LOGGER.info("Generating catalog: " + catalogCliArg.getRuntime() + " "
-                            + catalogCliArg.getCatalogVersion());
-
-                    CatalogGeneratorBuilder builder = new CatalogGeneratorBuilder();
-                    var catalogGenerator = builder.withRuntime(catalogCliArg.getRuntime())
-                            .withCamelCatalogVersion(catalogCliArg.getCatalogVersion())
-                            .withKameletsVersion(configBean.getKameletsVersion())
-                            .withCamelKCRDsVersion("2.3.1")
-                            .withOutputDirectory(catalogDefinitionFolder)
-                            .withVerbose(configBean.isVerbose())
-                            .build();
-
-                    CatalogDefinition catalogDefinition = catalogGenerator.generate();
-                    File indexFile = catalogDefinitionFolder.toPath().resolve(catalogDefinition.getFileName()).toFile();
-                    String relateIndexFile = outputFolder.toPath().relativize(indexFile.toPath()).toString().replace(File.separator, "/");
+        /*
+         * The sub-catalogs get their own pool, so they never wait for a thread held by the catalog they belong to.
+         * It is a fork/join pool, so the components, EIPs and entities of a catalog can be split across it as well.
+         */
+        ExecutorService subCatalogExecutor = configBean.getJobs() > 1 ? new ForkJoinPool(configBean.getJobs()) : null;
+        /* Artifacts identical across catalogs, like the kamelets aggregate, are built once and hard-linked */
+        ArtifactStore artifactStore = new ArtifactStore();
+        KubernetesSchemaSource kubernetesSchemaSource = createKubernetesSchemaSource();
+        /* The Maven artifacts resolved by a previous run are reused instead of walking their dependencies again */
+        MavenArtifactResolver artifactResolver = new MavenArtifactResolver();
+        if (configBean.getCacheFolder() != null) {
+            artifactResolver.setCacheFile(configBean.getCacheFolder().toPath().resolve("maven-artifacts.json"));
+        }
+        if (configBean.isOffline()) {
+            artifactResolver.setOfflineRepository(configBean.getRepositoryFolder().toPath());
+        }
+        try {
+            List<Callable<CatalogDefinition>> catalogTasks = new ArrayList<>();
+            List<MavenArtifactResolver.Request> artifactRequests = new ArrayList<>();
+            configBean.getCatalogVersionSet().forEach(catalogCliArg -> catalogTasks.add(
+                    createCatalogTask(outputFolder, catalogCliArg, subCatalogExecutor, artifactStore,
+                            kubernetesSchemaSource, artifactResolver, artifactRequests)));
 
+            /* Every catalog starts with its Maven artifacts already resolved, instead of resolving them one by one */
+            resolveArtifacts(artifactResolver, artifactRequests);
 
-                    catalogDefinition.setFileName(relateIndexFile);
+            /* The definitions are added in the same order as the requested catalogs, regardless of which one finishes first */
+            generateCatalogs(catalogTasks).forEach(library::addDefinition);
+        } finally {
+            if (subCatalogExecutor != null) {
+                subCatalogExecutor.shutdownNow();
+            }
+        }
 
-                    library.addDefinition(catalogDefinition);
-                });
+        try {
+            artifactResolver.save();
+        } catch (IOException e) {
+            LOGGER.log(Level.WARNING, "Error writing the resolved Maven artifacts", e);
+        }
 
         ObjectMapper jsonMapper = new ObjectMapper()
                 .configure(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS, true);
@@ -73,6 +104,151 @@ public class GenerateCommand implements Runnable {
 
     }
 
+    /**
+     * Prepare the generation of a single catalog. The output folders and the generator are created eagerly, so only
+     * the generation itself runs on the worker threads.
+     *
+     * @param outputFolder           the root output folder
+     * @param catalogCliArg          the runtime and version of the catalog to generate
+     * @param subCatalogExecutor     the executor to build the sub-catalogs on, or {@code null} to build them one at a
+     *                               time
+     * @param artifactStore          the store of the artifacts shared by all the catalogs
+     * @param kubernetesSchemaSource the Kubernetes OpenAPI specification shared by all the catalogs
+     * @param artifactResolver       the resolver of the Maven artifacts shared by all the catalogs
+     * @param artifactRequests       the list to add the Maven artifacts the catalog needs to
+     * @return a task producing the catalog definition, with its file name relative to the root output folder
+     */
+    private Callable<CatalogDefinition> createCatalogTask(File outputFolder, CatalogCliArgument catalogCliArg,
+                                                          Executor subCatalogExecutor, ArtifactStore artifactStore,
+                                                          KubernetesSchemaSource kubernetesSchemaSource,
+                                                          MavenArtifactResolver artifactResolver,
+                                                          List<MavenArtifactResolver.Request> artifactRequests) {
+        String runtimeFolderName = "camel-" + catalogCliArg.getRuntime().name().toLowerCase();
+        File runtimeFolder = createSubFolder(outputFolder, runtimeFolderName);
+        File catalogDefinitionFolder = createSubFolder(runtimeFolder, catalogCliArg.getCatalogVersion());
+
+        CatalogGeneratorBuilder builder = new CatalogGeneratorBuilder();
+        var catalogGenerator = builder.withRuntime(catalogCliArg.getRuntime())
+                .withCamelCatalogVersion(catalogCliArg.getCatalogVersion())
+                .withKameletsVersion(configBean.getKameletsVersion())
+                .withCamelKCRDsVersion(Constants.CAMEL_K_CRDS_VERSION)
+                .withOutputDirectory(catalogDefinitionFolder)
+                .withCacheDirectory(configBean.getCacheFolder())
+                .withVerbose(configBean.isVerbose())
+                .withExecutor(subCatalogExecutor)
+                .withArtifactStore(artifactStore)
+                .withKubernetesSchemaSource(kubernetesSchemaSource)
+                .withResolutionProfile(configBean.getResolutionProfile())
+                .withArtifactResolver(artifactResolver)
+                .build();
+        artifactRequests.addAll(catalogGenerator.getArtifactRequests());
+
+        return () -> {
+            LOGGER.info("-------------------------------------------\n");
+            LOGGER.info("Generating catalog: " + catalogCliArg.getRuntime() + " "
+                    + catalogCliArg.getCatalogVersion());
+
+            CatalogDefinition catalogDefinition = catalogGenerator.generate();
+            File indexFile = catalogDefinitionFolder.toPath().resolve(catalogDefinition.getFileName()).toFile();
+            String relateIndexFile = outputFolder.toPath().relativize(indexFile.toPath()).toString().replace(File.separator, "/");
+
+            catalogDefinition.setFileName(relateIndexFile);
+
+            return catalogDefinition;
+        };
+    }
+
+    /**
+     * Resolve the Maven artifacts of all the catalogs concurrently, using up to {@link ConfigBean#getJobs()} threads.
+     * The artifacts that cannot be resolved are resolved again by the catalogs needing them.
+     */
+    private void resolveArtifacts(MavenArtifactResolver artifactResolver,
+                                  List<MavenArtifactResolver.Request> artifactRequests) {
+        if (artifactRequests.isEmpty()) {
+            return;
+        }
+
+        long start = System.currentTimeMillis();
+        ExecutorService executorService = Executors.newFixedThreadPool(configBean.getJobs());
+        try {
+            int resolved = artifactResolver.resolveAll(artifactRequests, executorService);
+            LOGGER.info(String.format("Resolved %d Maven artifacts in %d ms", resolved,
+                    System.currentTimeMillis() - start));
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
+    /**
+     * The bundled Kubernetes OpenAPI specification is used unless another one is requested. A downloaded one is kept
+     * next to the cached catalogs, so it is only downloaded again when asked to. Offline, the one stored by the
+     * prefetch command is used.
+     */
+    private KubernetesSchemaSource createKubernetesSchemaSource() {
+        if (configBean.isOffline()) {
+            return KubernetesSchemaSource.shared(KubernetesSchemaSource.stored(
+                    configBean.getRepositoryFolder().toPath().resolve(PrefetchCommand.KUBERNETES_SCHEMA_FOLDER)));
+        }
+        if (configBean.getKubernetesSchemaUrl() == null && !configBean.isRefreshKubernetesSchema()) {
+            return KubernetesSchemaSource.getDefault();
+        }
+
+        String url = configBean.getKubernetesSchemaUrl() == null ? KubernetesSchemaSource.DEFAULT_URL
+                : configBean.getKubernetesSchemaUrl();
+        var cacheDirectory = configBean.getCacheFolder() == null ? null
+                : configBean.getCacheFolder().toPath().resolve("kubernetes");
+
+        return KubernetesSchemaSource.shared(
+                KubernetesSchemaSource.downloaded(URI.create(url), cacheDirectory, configBean.isRefreshKubernetesSchema()));
+    }
+
+    /**
+     * Run the catalog tasks, using up to {@link ConfigBean#getJobs()} threads.
+     *
+     * @param catalogTasks the tasks to run
+     * @return the catalog definitions, in the same order as the tasks
+     */
+    private List<CatalogDefinition> generateCatalogs(List<Callable<CatalogDefinition>> catalogTasks) {
+        List<CatalogDefinition> catalogDefinitions = new ArrayList<>();
+        int jobs = Math.min(configBean.getJobs(), catalogTasks.size());
+
+        if (jobs <= 1) {
+            for (var catalogTask : catalogTasks) {
+                catalogDefinitions.add(callCatalogTask(catalogTask));
+            }
+            return catalogDefinitions;
+        }
+
+        ExecutorService executorService = Executors.newFixedThreadPool(jobs);
+        try {
+            for (Future<CatalogDefinition> future : executorService.invokeAll(catalogTasks)) {
+                catalogDefinitions.add(future.get());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while generating catalogs", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new RuntimeException("Error generating catalog", e.getCause());
+        } finally {
+            executorService.shutdownNow();
+        }
+
+        return catalogDefinitions;
+    }
+
+    private CatalogDefinition callCatalogTask(Callable<CatalogDefinition> catalogTask) {
+        try {
+            return catalogTask.call();
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new RuntimeException("Error generating catalog", e);
+        }
+    }
+
     private File createSubFolder(File parentFolder, String folderName) {
         File newSubFolder = parentFolder.toPath().resolve(folderName).toFile();
         return createSubFolder(newSubFolder);
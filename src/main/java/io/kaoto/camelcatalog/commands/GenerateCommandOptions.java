@@ -1,5 +1,6 @@
 package io.kaoto.camelcatalog.commands;
 
+import java.util.Locale;
 import java.util.logging.Logger;
 
 import org.apache.camel.catalog.CamelCatalog;
@@ -16,6 +17,7 @@ import org.apache.commons.cli.ParseException;
 
 import io.kaoto.camelcatalog.beans.ConfigBean;
 import io.kaoto.camelcatalog.generator.Util;
+import io.kaoto.camelcatalog.maven.ResolutionProfile;
 import io.kaoto.camelcatalog.model.CatalogCliArgument;
 import io.kaoto.camelcatalog.model.CatalogRuntime;
 
@@ -53,6 +55,27 @@ public class GenerateCommandOptions {
         Option verboseOption = Option.builder().argName("v").option("v").longOpt("verbose")
                 .desc("Be more verbose")
                 .build();
+        Option cacheOption = Option.builder().argName("cacheDir").option("c").longOpt("cache")
+                .desc("Generation cache directory. Catalogs whose inputs did not change are restored from it instead of being generated again, and the Maven artifacts already resolved are not resolved again")
+                .hasArg().get();
+        Option jobsOption = Option.builder().argName("jobs").option("j").longOpt("jobs")
+                .desc("Number of catalogs, and of sub-catalogs of each catalog, to generate concurrently. If not specified, everything is generated one at a time")
+                .hasArg().get();
+        Option kubernetesSchemaUrlOption = Option.builder().argName("url").longOpt("k8s-schema-url")
+                .desc("Kubernetes OpenAPI specification to download instead of the bundled copy. It is kept in the cache directory, if any")
+                .hasArg().get();
+        Option refreshKubernetesSchemaOption = Option.builder().longOpt("refresh-k8s-schema")
+                .desc("Download the Kubernetes OpenAPI specification again instead of using the cached copy")
+                .get();
+        Option repositoryOption = Option.builder().argName("repoDir").longOpt("repo")
+                .desc("Repository directory prepared by the prefetch command. It requires --offline")
+                .hasArg().get();
+        Option resolutionOption = Option.builder().argName("profile").longOpt("resolution")
+                .desc("How much of the dependency tree of the Maven artifacts to resolve: \"targeted\" only resolves the artifacts holding the resources the catalogs are built from, \"full\" resolves every dependency. Defaults to \"full\"")
+                .hasArg().get();
+        Option offlineOption = Option.builder().longOpt("offline")
+                .desc("Resolve the Maven artifacts and the Kubernetes OpenAPI specification only from the --repo directory, without reaching the network")
+                .get();
 
         options.addOption(outputOption);
         options.addOption(catalogsNameOption);
@@ -61,12 +84,37 @@ public class GenerateCommandOptions {
         options.addOption(camelQuarkusVersionOption);
         options.addOption(camelSpringbootVersionOption);
         options.addOption(verboseOption);
+        options.addOption(cacheOption);
+        options.addOption(jobsOption);
+        options.addOption(kubernetesSchemaUrlOption);
+        options.addOption(refreshKubernetesSchemaOption);
+        options.addOption(repositoryOption);
+        options.addOption(offlineOption);
+        options.addOption(resolutionOption);
 
         CommandLineParser parser = new DefaultParser();
         CommandLine cmd = parser.parse(options, args);
         configBean.setOutputFolder(Util.getNormalizedFolder(cmd.getOptionValue(outputOption.getOpt())));
         configBean.setCatalogsName(cmd.getOptionValue(catalogsNameOption.getOpt()));
         configBean.setKameletsVersion(cmd.getOptionValue(kameletsVersionOption.getOpt()));
+        if (cmd.hasOption(cacheOption.getOpt())) {
+            configBean.setCacheFolder(Util.getNormalizedFolder(cmd.getOptionValue(cacheOption.getOpt())));
+        }
+        configBean.setJobs(parseJobs(cmd.getOptionValue(jobsOption.getOpt())));
+        configBean.setResolutionProfile(parseResolutionProfile(cmd.getOptionValue(resolutionOption.getLongOpt())));
+        configBean.setKubernetesSchemaUrl(cmd.getOptionValue(kubernetesSchemaUrlOption.getLongOpt()));
+        configBean.setRefreshKubernetesSchema(cmd.hasOption(refreshKubernetesSchemaOption.getLongOpt()));
+        if (cmd.hasOption(repositoryOption.getLongOpt()) != cmd.hasOption(offlineOption.getLongOpt())) {
+            throw new ParseException("The --offline and --repo options must be used together");
+        }
+        if (cmd.hasOption(offlineOption.getLongOpt())) {
+            if (configBean.getKubernetesSchemaUrl() != null || configBean.isRefreshKubernetesSchema()) {
+                throw new ParseException(
+                        "The Kubernetes OpenAPI specification cannot be downloaded offline, prefetch it instead");
+            }
+            configBean.setRepositoryFolder(Util.getNormalizedFolder(cmd.getOptionValue(repositoryOption.getLongOpt())));
+            configBean.setOffline(true);
+        }
 
         addRuntimeVersions(configBean, cmd, camelMainVersionOption, CatalogRuntime.Main);
         addRuntimeVersions(configBean, cmd, camelQuarkusVersionOption, CatalogRuntime.Quarkus);
@@ -82,7 +130,35 @@ public class GenerateCommandOptions {
         formatter.printHelp("catalog-generator", this.options);
     }
 
-    private void addRuntimeVersions(ConfigBean configBean, CommandLine cmd, Option option,
+    static int parseJobs(String jobs) throws ParseException {
+        if (jobs == null) {
+            return 1;
+        }
+
+        try {
+            int parsedJobs = Integer.parseInt(jobs);
+            if (parsedJobs < 1) {
+                throw new ParseException("The number of jobs must be greater than zero: " + jobs);
+            }
+            return parsedJobs;
+        } catch (NumberFormatException e) {
+            throw new ParseException("The number of jobs must be a number: " + jobs);
+        }
+    }
+
+    static ResolutionProfile parseResolutionProfile(String resolutionProfile) throws ParseException {
+        if (resolutionProfile == null) {
+            return ResolutionProfile.FULL;
+        }
+
+        try {
+            return ResolutionProfile.valueOf(resolutionProfile.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new ParseException("The resolution profile must be \"targeted\" or \"full\": " + resolutionProfile);
+        }
+    }
+
+    static void addRuntimeVersions(ConfigBean configBean, CommandLine cmd, Option option,
             CatalogRuntime runtime) {
         String[] versions = cmd.getOptionValues(option.getOpt());
         if (versions != null) {
@@ -92,7 +168,7 @@ public class GenerateCommandOptions {
         }
     }
 
-    private void addDefaultVersions(ConfigBean configBean) {
+    static void addDefaultVersions(ConfigBean configBean) {
         // If no version is specified, we will generate the main catalog with the
         // installed version
         LOGGER.warning(
@@ -0,0 +1,87 @@
+package io.kaoto.camelcatalog.commands;
+
+import io.kaoto.camelcatalog.beans.ConfigBean;
+import io.kaoto.camelcatalog.maven.CamelCatalogVersionLoader;
+import io.kaoto.camelcatalog.maven.KubernetesSchemaSource;
+import io.kaoto.camelcatalog.maven.MavenArtifactResolver;
+import io.kaoto.camelcatalog.model.Constants;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.logging.Logger;
+
+/**
+ * Resolves every input the requested catalogs need into a self-contained repository directory: the Maven artifacts,
+ * laid out as a local Maven repository, and the Kubernetes OpenAPI specification. The catalogs can then be generated
+ * from it with {@code --offline --repo}, without reaching the network.
+ */
+public class PrefetchCommand implements Runnable {
+    /**
+     * The folder of the repository directory holding the Kubernetes OpenAPI specification.
+     */
+    public static final String KUBERNETES_SCHEMA_FOLDER = "kubernetes";
+    private static final Logger LOGGER = Logger.getLogger(PrefetchCommand.class.getName());
+    private final ConfigBean configBean;
+
+    public PrefetchCommand(ConfigBean configBean) {
+        this.configBean = configBean;
+    }
+
+    @Override
+    public void run() {
+        LOGGER.info("Repository folder: " + configBean.getRepositoryFolder() + "\n" +
+                "Catalog versions: " + configBean.getCatalogVersionSet() + "\n" +
+                "Kamelets version: " + configBean.getKameletsVersion() + "\n" +
+                "Jobs: " + configBean.getJobs() + "\n" +
+                "Resolution profile: " + configBean.getResolutionProfile());
+
+        Path repositoryFolder = configBean.getRepositoryFolder().toPath();
+        MavenArtifactResolver artifactResolver = new MavenArtifactResolver();
+        artifactResolver.setLocalRepository(repositoryFolder);
+
+        List<MavenArtifactResolver.Request> artifactRequests = new ArrayList<>();
+        configBean.getCatalogVersionSet().forEach(catalogCliArg -> artifactRequests.addAll(
+                CamelCatalogVersionLoader.getArtifactRequests(catalogCliArg.getRuntime(),
+                        catalogCliArg.getCatalogVersion(), configBean.getKameletsVersion(),
+                        Constants.CAMEL_K_CRDS_VERSION, configBean.getResolutionProfile())));
+
+        long start = System.currentTimeMillis();
+        int requested = new LinkedHashSet<>(artifactRequests).size();
+        int resolved;
+        ExecutorService executorService = Executors.newFixedThreadPool(configBean.getJobs());
+        try {
+            resolved = artifactResolver.resolveAll(artifactRequests, executorService);
+        } finally {
+            executorService.shutdownNow();
+        }
+
+        /* A partial repository would only fail later, when generating offline */
+        if (resolved < requested) {
+            throw new RuntimeException(
+                    String.format("Cannot resolve %d of %d Maven artifacts", requested - resolved, requested));
+        }
+        LOGGER.info(String.format("Resolved %d Maven artifacts in %d ms", resolved,
+                System.currentTimeMillis() - start));
+
+        storeKubernetesSchema(repositoryFolder.resolve(KUBERNETES_SCHEMA_FOLDER));
+    }
+
+    private void storeKubernetesSchema(Path directory) {
+        KubernetesSchemaSource kubernetesSchemaSource = configBean.getKubernetesSchemaUrl() == null
+                ? KubernetesSchemaSource.bundled()
+                : KubernetesSchemaSource.downloaded(URI.create(configBean.getKubernetesSchemaUrl()), null, false);
+
+        try {
+            KubernetesSchemaSource.store(directory, kubernetesSchemaSource.load());
+        } catch (IOException e) {
+            throw new RuntimeException("Error storing the Kubernetes OpenAPI specification", e);
+        }
+        LOGGER.info("Kubernetes OpenAPI specification stored in " + directory);
+    }
+}
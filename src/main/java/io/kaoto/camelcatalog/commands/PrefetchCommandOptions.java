@@ -0,0 +1,91 @@
+package io.kaoto.camelcatalog.commands;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+import org.apache.commons.cli.CommandLine;
+import org.apache.commons.cli.CommandLineParser;
+import org.apache.commons.cli.DefaultParser;
+import org.apache.commons.cli.Option;
+import org.apache.commons.cli.Options;
+import org.apache.commons.cli.ParseException;
+import org.apache.commons.cli.help.HelpFormatter;
+
+import io.kaoto.camelcatalog.beans.ConfigBean;
+import io.kaoto.camelcatalog.generator.Util;
+import io.kaoto.camelcatalog.model.CatalogRuntime;
+
+public class PrefetchCommandOptions {
+    public static final String COMMAND = "prefetch";
+    private Options options = new Options();
+    private ConfigBean configBean;
+
+    public PrefetchCommandOptions(ConfigBean configBean) {
+        this.configBean = configBean;
+    }
+
+    public void configure(String[] args) throws ParseException {
+        Option repositoryOption = Option.builder().argName("repoDir").longOpt("repo")
+                .desc("Repository directory to resolve the Maven artifacts and the Kubernetes OpenAPI specification into. Generate the catalogs with --offline --repo to use it")
+                .hasArg()
+                .required()
+                .get();
+        Option kameletsVersionOption = Option.builder().argName("kameletsVersion").option("k")
+                .longOpt("kamelets")
+                .desc("Kamelets catalog version. If not specified, the generator installed version needs nothing to prefetch")
+                .hasArg().get();
+        Option camelMainVersionOption = Option.builder().argName("version").option("m").longOpt("main")
+                .desc("Camel Main version. If not specified, it will use the generator installed version")
+                .hasArg().get();
+        Option camelQuarkusVersionOption = Option.builder().argName("version").option("q").longOpt("quarkus")
+                .desc("Camel Extensions for Quarkus version").hasArg().get();
+        Option camelSpringbootVersionOption = Option.builder().argName("version").option("s")
+                .longOpt("springboot")
+                .desc("Camel SpringBoot version").hasArg().get();
+        Option jobsOption = Option.builder().argName("jobs").option("j").longOpt("jobs")
+                .desc("Number of Maven artifacts to resolve concurrently. If not specified, they are resolved one at a time")
+                .hasArg().get();
+        Option resolutionOption = Option.builder().argName("profile").longOpt("resolution")
+                .desc("How much of the dependency tree of the Maven artifacts to resolve: \"targeted\" only resolves the artifacts holding the resources the catalogs are built from, and must match the one used to generate the catalogs, \"full\" resolves every dependency. Defaults to \"full\"")
+                .hasArg().get();
+        Option kubernetesSchemaUrlOption = Option.builder().argName("url").longOpt("k8s-schema-url")
+                .desc("Kubernetes OpenAPI specification to download instead of the bundled copy")
+                .hasArg().get();
+
+        options.addOption(repositoryOption);
+        options.addOption(kameletsVersionOption);
+        options.addOption(camelMainVersionOption);
+        options.addOption(camelQuarkusVersionOption);
+        options.addOption(camelSpringbootVersionOption);
+        options.addOption(jobsOption);
+        options.addOption(resolutionOption);
+        options.addOption(kubernetesSchemaUrlOption);
+
+        CommandLineParser parser = new DefaultParser();
+        CommandLine cmd = parser.parse(options, args);
+        configBean.setRepositoryFolder(Util.getNormalizedFolder(cmd.getOptionValue(repositoryOption.getLongOpt())));
+        configBean.setKameletsVersion(cmd.getOptionValue(kameletsVersionOption.getOpt()));
+        configBean.setJobs(GenerateCommandOptions.parseJobs(cmd.getOptionValue(jobsOption.getOpt())));
+        configBean.setResolutionProfile(
+                GenerateCommandOptions.parseResolutionProfile(cmd.getOptionValue(resolutionOption.getLongOpt())));
+        configBean.setKubernetesSchemaUrl(cmd.getOptionValue(kubernetesSchemaUrlOption.getLongOpt()));
+
+        GenerateCommandOptions.addRuntimeVersions(configBean, cmd, camelMainVersionOption, CatalogRuntime.Main);
+        GenerateCommandOptions.addRuntimeVersions(configBean, cmd, camelQuarkusVersionOption, CatalogRuntime.Quarkus);
+        GenerateCommandOptions.addRuntimeVersions(configBean, cmd, camelSpringbootVersionOption,
+                CatalogRuntime.SpringBoot);
+
+        if (configBean.getCatalogVersionSet().isEmpty()) {
+            GenerateCommandOptions.addDefaultVersions(configBean);
+        }
+    }
+
+    public void printHelp() {
+        HelpFormatter formatter = HelpFormatter.builder().setShowSince(false).get();
+        try {
+            formatter.printHelp("catalog-generator " + COMMAND, null, this.options, null, true);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Error printing the help", e);
+        }
+    }
+}
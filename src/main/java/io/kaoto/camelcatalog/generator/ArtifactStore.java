@@ -0,0 +1,125 @@
+/*
+ * Copyright (C) 2025 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.kaoto.camelcatalog.generator;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.FileSystemException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Content-addressed store of the artifacts shared by the generated catalog folders, e.g. the kamelets aggregate.
+ * <p>
+ * Artifacts are keyed by their hashed file name, so a file whose content was already written in another folder is
+ * replaced by a hard link to the first copy. Artifacts built from the same inputs can also be given a source key, in
+ * which case they are only built once and linked into the other folders. Hard links fall back to copies on file
+ * systems that do not support them.
+ * <p>
+ * The store is safe to share between catalogs generated concurrently.
+ */
+public class ArtifactStore {
+    private final Map<String, Path> artifacts = new ConcurrentHashMap<>();
+    private final Map<String, CompletableFuture<Path>> sourceArtifacts = new ConcurrentHashMap<>();
+
+    /**
+     * Writes the content of an artifact.
+     */
+    @FunctionalInterface
+    public interface ContentWriter {
+        void write(OutputStream outputStream) throws IOException;
+    }
+
+    /**
+     * Write an artifact into the given folder, or link it when it is already in the store.
+     *
+     * @param sourceKey         the key of the inputs the artifact is built from, e.g. "kamelets/4.16.0", or
+     *                          {@code null} to always build it
+     * @param directory         the folder to write the file into
+     * @param fileNamePrefix    the file name before the hash, e.g. "kamelets-aggregate"
+     * @param fileNameExtension the file name after the hash, e.g. ".json"
+     * @param contentWriter     writes the content of the artifact, only called when it has to be built
+     * @return the hashed file name, e.g. "kamelets-aggregate-1a2b3c.json"
+     */
+    public String write(String sourceKey, Path directory, String fileNamePrefix, String fileNameExtension,
+                        ContentWriter contentWriter) throws IOException {
+        if (sourceKey == null) {
+            return writeArtifact(directory, fileNamePrefix, fileNameExtension, contentWriter).getFileName().toString();
+        }
+
+        var artifactFuture = new CompletableFuture<Path>();
+        var existingArtifactFuture = sourceArtifacts.putIfAbsent(sourceKey, artifactFuture);
+        if (existingArtifactFuture == null) {
+            try {
+                var artifact = writeArtifact(directory, fileNamePrefix, fileNameExtension, contentWriter);
+                artifactFuture.complete(artifact);
+                return artifact.getFileName().toString();
+            } catch (IOException | RuntimeException e) {
+                // Let the next catalog try again instead of failing on the same error
+                sourceArtifacts.remove(sourceKey, artifactFuture);
+                artifactFuture.completeExceptionally(e);
+                throw e;
+            }
+        }
+
+        Path artifact;
+        try {
+            artifact = existingArtifactFuture.join();
+        } catch (CompletionException e) {
+            throw new IOException("Error building the artifact: " + sourceKey, e.getCause());
+        }
+
+        Path file = directory.resolve(artifact.getFileName());
+        if (!file.equals(artifact)) {
+            Files.createDirectories(directory);
+            link(artifact, file);
+        }
+        return file.getFileName().toString();
+    }
+
+    private Path writeArtifact(Path directory, String fileNamePrefix, String fileNameExtension,
+                               ContentWriter contentWriter) throws IOException {
+        String fileName;
+        try (var writer = new HashedFileWriter(directory, fileNamePrefix, fileNameExtension)) {
+            contentWriter.write(writer.getOutputStream());
+            fileName = writer.commit();
+        }
+
+        Path file = directory.resolve(fileName);
+        Path artifact = artifacts.putIfAbsent(fileName, file);
+        if (artifact != null && !artifact.equals(file)) {
+            Files.delete(file);
+            link(artifact, file);
+        }
+        return file;
+    }
+
+    private static void link(Path artifact, Path file) throws IOException {
+        try {
+            Files.createLink(file, artifact);
+        } catch (FileAlreadyExistsException e) {
+            // Same hash, same content
+        } catch (UnsupportedOperationException | FileSystemException e) {
+            Files.copy(artifact, file, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+}
@@ -15,9 +15,10 @@
  */
 package io.kaoto.camelcatalog.generator;
 
-import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.kaoto.camelcatalog.generators.CamelCatalogModelRegistry;
 import io.kaoto.camelcatalog.generators.CamelCatalogSchemaEnhancer;
 import io.kaoto.camelcatalog.generators.ComponentGenerator;
 import io.kaoto.camelcatalog.generators.EIPGenerator;
@@ -31,8 +32,15 @@ import org.apache.camel.tooling.model.EipModel.EipOptionModel;
 import org.apache.camel.tooling.model.JsonMapper;
 import org.apache.camel.tooling.model.Kind;
 
-import java.io.StringWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.*;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.BiConsumer;
 
 /**
  * Customize Camel Catalog for Kaoto.
@@ -44,13 +52,17 @@ public class CamelCatalogProcessor {
     private final CamelYamlDslSchemaProcessor schemaProcessor;
     private final CamelCatalogVersionLoader camelCatalogVersionLoader;
     private final CatalogRuntime runtime;
+    private final CamelCatalogModelRegistry modelRegistry;
     private final CamelCatalogSchemaEnhancer schemaEnhancer;
+    private Executor executor;
 
     public CamelCatalogProcessor(CamelCatalog camelCatalog, ObjectMapper jsonMapper,
                                  CamelYamlDslSchemaProcessor schemaProcessor, CatalogRuntime runtime,
                                  CamelCatalogVersionLoader camelCatalogVersionLoader) {
         this.jsonMapper = jsonMapper;
-        this.schemaEnhancer = new CamelCatalogSchemaEnhancer(camelCatalog);
+        /* One enhancer, and so one model registry, is shared by all the generators of the catalog */
+        this.modelRegistry = new CamelCatalogModelRegistry(camelCatalog);
+        this.schemaEnhancer = new CamelCatalogSchemaEnhancer(modelRegistry);
         this.camelCatalog = camelCatalog;
         this.schemaProcessor = schemaProcessor;
         this.runtime = runtime;
@@ -64,33 +76,101 @@ public class CamelCatalogProcessor {
      */
     public Map<String, String> processCatalog() throws Exception {
         var answer = new LinkedHashMap<String, String>();
-        ComponentGenerator componentGenerator = new ComponentGenerator(camelCatalog, runtime);
-        var componentCatalog = Util.getPrettyJSON(componentGenerator.generate());
-        var dataFormatCatalog = getDataFormatCatalog();
-        var languageCatalog = getLanguageCatalog();
-        var modelCatalog = getModelCatalog();
-        EIPGenerator eipGenerator = new EIPGenerator(camelCatalog, camelCatalogVersionLoader.getCamelYamlDslSchema(),
-                camelCatalogVersionLoader.getKaotoPatterns());
-        var patternCatalog = Util.getPrettyJSON(eipGenerator.generate());
-        EntityGenerator entityGenerator = new EntityGenerator(camelCatalog,
-                camelCatalogVersionLoader.getCamelYamlDslSchema(),
-                camelCatalogVersionLoader.getKubernetesSchema(),
-                camelCatalogVersionLoader.getLocalSchemas());
-        var entityCatalog = Util.getPrettyJSON(entityGenerator.generate());
-        var loadBalancerCatalog = getLoadBalancerCatalog();
-        var functionsCatalog = Util.getPrettyJSON(new FunctionsGenerator(camelCatalog, camelCatalogVersionLoader).generate());
-
-        answer.put("components", componentCatalog);
-        answer.put("dataformats", dataFormatCatalog);
-        answer.put("languages", languageCatalog);
-        answer.put("models", modelCatalog);
-        answer.put("patterns", patternCatalog);
-        answer.put("entities", entityCatalog);
-        answer.put("loadbalancers", loadBalancerCatalog);
-        answer.put("functions", functionsCatalog);
+        processCatalog((name, catalog) -> {
+            try {
+                answer.put(name, Util.getPrettyJSON(catalog));
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
         return answer;
     }
 
+    /**
+     * Create Camel catalogs customized for Kaoto usage, handing each of them over as soon as it is built, so they
+     * don't have to be kept in memory together. The catalogs are provided in the same order as in
+     * {@link #processCatalog()}, as nodes to be written with {@link Util#writePrettyJSON(Object, java.io.OutputStream)}.
+     * <p>
+     * When an executor is set, the catalogs are built concurrently, as none of them depends on another one, and are
+     * still handed over in the same order. A {@link ForkJoinPool} is also used to build the components, patterns and entities in parallel.
+     *
+     * @param catalogConsumer receives the name and the content of each catalog
+     */
+    public void processCatalog(BiConsumer<String, Object> catalogConsumer) throws Exception {
+        var catalogTasks = new LinkedHashMap<String, Callable<Object>>();
+        /* The components, patterns and entities are the largest catalogs, they are split further if the pool allows */
+        ForkJoinPool forkJoinPool = executor instanceof ForkJoinPool pool ? pool : null;
+        catalogTasks.put("components", () -> {
+            ComponentGenerator componentGenerator = new ComponentGenerator(camelCatalog, runtime, schemaEnhancer);
+            componentGenerator.setForkJoinPool(forkJoinPool);
+            return componentGenerator.generate();
+        });
+        catalogTasks.put("dataformats", this::createDataFormatCatalog);
+        catalogTasks.put("languages", this::createLanguageCatalog);
+        catalogTasks.put("models", this::createModelCatalog);
+        catalogTasks.put("patterns", () -> {
+            EIPGenerator eipGenerator = new EIPGenerator(camelCatalog,
+                    camelCatalogVersionLoader.getCamelYamlDslSchemaNode(),
+                    camelCatalogVersionLoader.getKaotoPatterns(), schemaEnhancer);
+            eipGenerator.setForkJoinPool(forkJoinPool);
+            return eipGenerator.generate();
+        });
+        catalogTasks.put("entities", () -> {
+            EntityGenerator entityGenerator = new EntityGenerator(camelCatalog,
+                    camelCatalogVersionLoader.getCamelYamlDslSchemaNode(),
+                    camelCatalogVersionLoader.getKubernetesSchema(),
+                    camelCatalogVersionLoader.getLocalSchemas(),
+                    schemaEnhancer);
+            entityGenerator.setForkJoinPool(forkJoinPool);
+            return entityGenerator.generate();
+        });
+        catalogTasks.put("loadbalancers", this::createLoadBalancerCatalog);
+        catalogTasks.put("functions", () -> new FunctionsGenerator(modelRegistry, camelCatalogVersionLoader).generate());
+
+        if (executor == null) {
+            for (var catalogTask : catalogTasks.entrySet()) {
+                catalogConsumer.accept(catalogTask.getKey(), catalogTask.getValue().call());
+            }
+            return;
+        }
+
+        var catalogFutures = new LinkedHashMap<String, CompletableFuture<Object>>();
+        catalogTasks.forEach((name, catalogTask) -> catalogFutures.put(name, CompletableFuture.supplyAsync(() -> {
+            try {
+                return catalogTask.call();
+            } catch (Exception e) {
+                throw new CompletionException(e);
+            }
+        }, executor)));
+
+        /* The catalogs are handed over in the same order as the tasks, regardless of which one finishes first */
+        try {
+            for (var catalogFuture : catalogFutures.entrySet()) {
+                catalogConsumer.accept(catalogFuture.getKey(), catalogFuture.getValue().join());
+            }
+        } catch (CompletionException e) {
+            catalogFutures.values().forEach(catalogFuture -> catalogFuture.cancel(false));
+            if (e.getCause() instanceof Exception exception) {
+                throw exception;
+            }
+            throw e;
+        }
+    }
+
+    public Executor getExecutor() {
+        return executor;
+    }
+
+    /**
+     * Set the executor used to build the catalogs concurrently, the catalogs being built one after another on the
+     * calling thread when there is none.
+     *
+     * @param executor the executor to run the catalog generators on, or {@code null}
+     */
+    public void setExecutor(Executor executor) {
+        this.executor = executor;
+    }
+
     /**
      * Get aggregated Camel DataFormat catalog with a custom dataformat added.
      *
@@ -98,10 +178,14 @@ public class CamelCatalogProcessor {
      * @throws Exception
      */
     public String getDataFormatCatalog() throws Exception {
+        return Util.getPrettyJSON(createDataFormatCatalog());
+    }
+
+    private ObjectNode createDataFormatCatalog() throws Exception {
         var catalogMap = new LinkedHashMap<String, EipModel>();
-        for (var name : camelCatalog.findDataFormatNames()) {
-            var modelCatalog = camelCatalog.dataFormatModel(name);
-            catalogMap.put(modelCatalog.getName(), camelCatalog.eipModel(name));
+        for (var name : modelRegistry.getDataFormatNames()) {
+            var modelCatalog = modelRegistry.getModel(Kind.dataformat, name);
+            catalogMap.put(modelCatalog.getName(), modelRegistry.getEipModel(name));
         }
         var answer = jsonMapper.createObjectNode();
         var dataFormatSchemaMap = schemaProcessor.getDataFormats();
@@ -116,12 +200,11 @@ public class CamelCatalogProcessor {
 
             sortPropertiesAccordingToCamelCatalog(dataFormatSchema, eipModelOptions);
 
-            var dataFormatCatalog = (EipModel) camelCatalog.model(Kind.eip, dataFormatName);
+            var dataFormatCatalog = (EipModel) modelRegistry.getModel(Kind.eip, dataFormatName);
             if (dataFormatCatalog == null) {
                 throw new Exception("DataFormat " + dataFormatName + " is not found in Camel model catalog.");
             }
-            var json = JsonMapper.asJsonObject(dataFormatCatalog).toJson();
-            var catalogTree = (ObjectNode) jsonMapper.readTree(json);
+            var catalogTree = asJsonTree(dataFormatCatalog);
             catalogTree.set("propertiesSchema", dataFormatSchema);
             // setting required property to all the dataformats schema
             setRequiredToPropertiesSchema(dataFormatSchema, catalogTree);
@@ -129,11 +212,7 @@ public class CamelCatalogProcessor {
             schemaEnhancer.fixDefaultValueTypesFromCamelSchema(dataFormatSchema);
             answer.set(dataFormatName, catalogTree);
         }
-        StringWriter writer = new StringWriter();
-        try (var jsonGenerator = new JsonFactory().createGenerator(writer).setPrettyPrinter(Util.createTabPrettyPrinter())) {
-            jsonMapper.writeTree(jsonGenerator, answer);
-        }
-        return writer.toString();
+        return answer;
     }
 
     /**
@@ -143,12 +222,16 @@ public class CamelCatalogProcessor {
      * @throws Exception
      */
     public String getLanguageCatalog() throws Exception {
+        return Util.getPrettyJSON(createLanguageCatalog());
+    }
+
+    private ObjectNode createLanguageCatalog() throws Exception {
         var answer = jsonMapper.createObjectNode();
         var languageSchemaMap = schemaProcessor.getLanguages();
         var catalogMap = new LinkedHashMap<String, EipModel>();
-        for (var name : camelCatalog.findLanguageNames()) {
-            var modelCatalog = camelCatalog.languageModel(name);
-            catalogMap.put(modelCatalog.getName(), camelCatalog.eipModel(name));
+        for (var name : modelRegistry.getLanguageNames()) {
+            var modelCatalog = modelRegistry.getModel(Kind.language, name);
+            catalogMap.put(modelCatalog.getName(), modelRegistry.getEipModel(name));
         }
         for (var entry : languageSchemaMap.entrySet()) {
             var languageName = entry.getKey();
@@ -161,12 +244,11 @@ public class CamelCatalogProcessor {
 
             sortPropertiesAccordingToCamelCatalog(languageSchema, eipModelOptions);
 
-            var languageCatalog = (EipModel) camelCatalog.model(Kind.eip, languageName);
+            var languageCatalog = (EipModel) modelRegistry.getModel(Kind.eip, languageName);
             if (languageCatalog == null) {
                 throw new Exception("Language " + languageName + " is not found in Camel model catalog.");
             }
-            var json = JsonMapper.asJsonObject(languageCatalog).toJson();
-            var catalogTree = (ObjectNode) jsonMapper.readTree(json);
+            var catalogTree = asJsonTree(languageCatalog);
             catalogTree.set("propertiesSchema", languageSchema);
             // setting required property to all the languages schema
             setRequiredToPropertiesSchema(languageSchema, catalogTree);
@@ -174,31 +256,20 @@ public class CamelCatalogProcessor {
             schemaEnhancer.fixDefaultValueTypesFromCamelSchema(languageSchema);
             answer.set(languageName, catalogTree);
         }
-        StringWriter writer = new StringWriter();
-        try (var jsonGenerator = new JsonFactory().createGenerator(writer).setPrettyPrinter(Util.createTabPrettyPrinter())) {
-            jsonMapper.writeTree(jsonGenerator, answer);
-        }
-        return writer.toString();
+        return answer;
     }
 
     public String getModelCatalog() throws Exception {
-        var answer = jsonMapper.createObjectNode();
-        camelCatalog.findModelNames().stream().sorted().forEach(name -> {
-            try {
-                var model = (EipModel) camelCatalog.model(Kind.eip, name);
-                var json = JsonMapper.asJsonObject(model).toJson();
-                var catalogNode = (ObjectNode) jsonMapper.readTree(json);
+        return Util.getPrettyJSON(createModelCatalog());
+    }
 
-                answer.set(name, catalogNode);
-            } catch (Exception e) {
-                throw new RuntimeException(e);
-            }
+    private ObjectNode createModelCatalog() {
+        var answer = jsonMapper.createObjectNode();
+        modelRegistry.getModelNames().stream().sorted().forEach(name -> {
+            var model = (EipModel) modelRegistry.getModel(Kind.eip, name);
+            answer.set(name, asJsonTree(model));
         });
-        StringWriter writer = new StringWriter();
-        try (var jsonGenerator = new JsonFactory().createGenerator(writer).setPrettyPrinter(Util.createTabPrettyPrinter())) {
-            jsonMapper.writeTree(jsonGenerator, answer);
-        }
-        return writer.toString();
+        return answer;
     }
 
     private void sortPropertiesAccordingToCamelCatalog(ObjectNode entitySchema,
@@ -224,26 +295,54 @@ public class CamelCatalogProcessor {
      * @throws Exception
      */
     public String getLoadBalancerCatalog() throws Exception {
+        return Util.getPrettyJSON(createLoadBalancerCatalog());
+    }
+
+    private ObjectNode createLoadBalancerCatalog() throws Exception {
         var answer = jsonMapper.createObjectNode();
         var loadBalancerSchemaMap = schemaProcessor.getLoadBalancers();
         for (var entry : loadBalancerSchemaMap.entrySet()) {
             var loadBalancerName = entry.getKey();
             var loadBalancerSchema = entry.getValue();
-            var loadBalancerCatalog = (EipModel) camelCatalog.model(Kind.eip, loadBalancerName);
+            var loadBalancerCatalog = (EipModel) modelRegistry.getModel(Kind.eip, loadBalancerName);
             if (loadBalancerCatalog == null) {
                 throw new Exception("LoadBalancer " + loadBalancerName + " is not found in Camel model catalog.");
             }
-            var json = JsonMapper.asJsonObject(loadBalancerCatalog).toJson();
-            var catalogTree = (ObjectNode) jsonMapper.readTree(json);
+            var catalogTree = asJsonTree(loadBalancerCatalog);
             catalogTree.set("propertiesSchema", loadBalancerSchema);
             // setting required property to all the load-balancers schema
             setRequiredToPropertiesSchema(loadBalancerSchema, catalogTree);
             answer.set(loadBalancerName, catalogTree);
         }
-        StringWriter writer = new StringWriter();
-        var jsonGenerator = new JsonFactory().createGenerator(writer).setPrettyPrinter(Util.createTabPrettyPrinter());
-        jsonMapper.writeTree(jsonGenerator, answer);
-        return writer.toString();
+        return answer;
+    }
+
+    /*
+     * Convert the Camel model straight into a Jackson tree, rather than printing it as JSON and parsing it back
+     */
+    private ObjectNode asJsonTree(EipModel model) {
+        return (ObjectNode) asJsonTree((Object) JsonMapper.asJsonObject(model));
+    }
+
+    /*
+     * The entries are copied in their order: the mapper might be configured to sort maps by keys, which the Camel
+     * JSON printer doesn't do
+     */
+    private JsonNode asJsonTree(Object value) {
+        if (value instanceof Map<?, ?> map) {
+            var objectNode = jsonMapper.createObjectNode();
+            map.forEach((key, entry) -> objectNode.set(String.valueOf(key), asJsonTree(entry)));
+            return objectNode;
+        }
+        if (value instanceof Collection<?> collection) {
+            var arrayNode = jsonMapper.createArrayNode();
+            collection.forEach(entry -> arrayNode.add(asJsonTree(entry)));
+            return arrayNode;
+        }
+        if (value == null) {
+            return jsonMapper.nullNode();
+        }
+        return jsonMapper.valueToTree(value);
     }
 
     private void setRequiredToPropertiesSchema(ObjectNode camelYamlDslSchema, ObjectNode catalogModel) {
@@ -16,27 +16,37 @@
 package io.kaoto.camelcatalog.generator;
 
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
 
 import org.apache.camel.tooling.model.EipModel.EipOptionModel;
 
+/**
+ * Sort the Camel YAML DSL keys according to the index of the matching option in the Camel catalog, unknown keys
+ * going last. The option indexes are looked up once, when the comparator is created.
+ */
 public class CamelYamlDSLKeysComparator implements Comparator<String> {
 
-    private final List<EipOptionModel> eipOptions;
+    private final Map<String, Integer> optionIndexes;
 
     public CamelYamlDSLKeysComparator(List<EipOptionModel> eipOptions) {
-        this.eipOptions = eipOptions;
+        this.optionIndexes = new HashMap<>(eipOptions.size() * 2);
+        eipOptions.forEach(option -> optionIndexes.putIfAbsent(option.getName(), option.getIndex()));
+    }
+
+    /**
+     * Get the catalog index of a key
+     *
+     * @param key the Camel YAML DSL key
+     * @return the index of the matching option, or {@link Integer#MAX_VALUE} if there is none
+     */
+    public int getIndex(String key) {
+        return optionIndexes.getOrDefault(key, Integer.MAX_VALUE);
     }
 
     @Override
     public int compare(String firstKey, String secondKey) {
-        Optional<EipOptionModel> firstOption = eipOptions.stream().filter(e -> e.getName().equals(firstKey)).findFirst();
-        Optional<EipOptionModel> secondOption = eipOptions.stream().filter(e -> e.getName().equals(secondKey)).findFirst();
-
-        var firstIndex = firstOption.isPresent() ? firstOption.get().getIndex() : Integer.MAX_VALUE;
-        var secondIndex = secondOption.isPresent() ? secondOption.get().getIndex() : Integer.MAX_VALUE;
-
-        return Integer.compare(firstIndex, secondIndex);
+        return Integer.compare(getIndex(firstKey), getIndex(secondKey));
     }
 }
@@ -20,13 +20,19 @@ import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
 import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.kaoto.camelcatalog.generators.SchemaDefinitionsResolver;
 
 import java.io.StringWriter;
 import java.util.*;
+import java.util.function.Function;
 
 /**
  * Process camelYamlDsl.json file, aka Camel YAML DSL JSON schema.
+ * <p>
+ * The data formats, languages, processors and load balancers can be extracted concurrently: the schema is only
+ * read, and every extraction works on its own copy of the relocated definitions.
  */
 public class CamelYamlDslSchemaProcessor {
     private static final String PROCESSOR_DEFINITION = "org.apache.camel.model.ProcessorDefinition";
@@ -74,6 +80,7 @@ public class CamelYamlDslSchemaProcessor {
             List.of("to"));
 
     private final List<String> processorReferenceBlockList = List.of(PROCESSOR_DEFINITION);
+    private ObjectNode cachedRelocatedDefinitions;
 
     public CamelYamlDslSchemaProcessor(ObjectMapper mapper, ObjectNode yamlDslSchema) throws Exception {
         this.jsonMapper = mapper;
@@ -93,6 +100,27 @@ public class CamelYamlDslSchemaProcessor {
         return answer;
     }
 
+    /**
+     * Get a view of the definitions, with their references relocated to the root "#/definitions".
+     * The relocation is done once per processor and is never modified afterwards. Every extraction receives its own
+     * view, which copies a definition the first time the extraction reads it, as they reshape the definitions they
+     * return.
+     *
+     * @return a view of the relocated definitions, whose definitions can be freely modified
+     */
+    private synchronized RelocatedDefinitions getRelocatedDefinitions() {
+        if (cachedRelocatedDefinitions == null) {
+            cachedRelocatedDefinitions = relocateToRootDefinitions(getDefinitions());
+        }
+        return new RelocatedDefinitions(cachedRelocatedDefinitions);
+    }
+
+    private ObjectNode getDefinitions() {
+        return yamlDslSchema
+                .withObject("/items")
+                .withObject("/definitions");
+    }
+
     private ObjectNode relocateToRootDefinitions(ObjectNode definitions) {
         var relocatedDefinitions = definitions.deepCopy();
         relocatedDefinitions.findParents("$ref").stream()
@@ -189,22 +217,21 @@ public class CamelYamlDslSchemaProcessor {
     }
 
     private void populateDefinitions(ObjectNode schema, ObjectNode definitions) {
-        boolean added = true;
-        while (added) {
-            added = false;
-            for (JsonNode refParent : schema.findParents("$ref")) {
-                var name = getNameFromRef((ObjectNode) refParent);
-                if (processorReferenceBlockList.contains(name)) {
-                    continue;
-                }
-                if (!schema.has("definitions") || !schema.withObject("/definitions").has(name)) {
-                    var schemaDefinitions = schema.withObject("/definitions");
-                    schemaDefinitions.set(name, definitions.withObject("/" + name));
-                    added = true;
-                    break;
-                }
-            }
-        }
+        populateDefinitions(schema, name -> definitions.withObject("/" + name));
+    }
+
+    private void populateDefinitions(ObjectNode schema, RelocatedDefinitions definitions) {
+        populateDefinitions(schema, definitions::get);
+    }
+
+    private void populateDefinitions(ObjectNode schema, Function<String, JsonNode> definitionProvider) {
+        new SchemaDefinitionsResolver(
+                refParent -> {
+                    var name = getNameFromRef(refParent);
+                    return processorReferenceBlockList.contains(name) ? null : name;
+                },
+                definitionProvider)
+                .populateDefinitions(schema);
     }
 
     /**
@@ -275,12 +302,8 @@ public class CamelYamlDslSchemaProcessor {
      * @return A map of processor definitions
      */
     public Map<String, ObjectNode> getProcessors() throws Exception {
-        var definitions = yamlDslSchema
-                .withObject("/items")
-                .withObject("/definitions");
-        var relocatedDefinitions = relocateToRootDefinitions(definitions);
-        var processors = relocatedDefinitions
-                .withObject(PROCESSOR_DEFINITION)
+        var relocatedDefinitions = getRelocatedDefinitions();
+        var processors = relocatedDefinitions.get(PROCESSOR_DEFINITION)
                 .withObject("/properties");
         addRouteConfigurationProcessors(relocatedDefinitions, processors);
         addRestProcessors(relocatedDefinitions, processors);
@@ -291,7 +314,7 @@ public class CamelYamlDslSchemaProcessor {
             if (processorBlocklist.contains(processorFQCN)) {
                 continue;
             }
-            var processor = relocatedDefinitions.withObject("/" + processorFQCN);
+            var processor = relocatedDefinitions.get(processorFQCN);
             processor = extractFromOneOf(processorFQCN, processor);
             processor.remove("oneOf");
 
@@ -348,9 +371,8 @@ public class CamelYamlDslSchemaProcessor {
         return answer;
     }
 
-    private void addRouteConfigurationProcessors(ObjectNode relocatedDefinitions, ObjectNode processors) {
-        var routeConfigurationProcessor = relocatedDefinitions
-                .withObject(ROUTE_CONFIGURATION_DEFINITION)
+    private void addRouteConfigurationProcessors(RelocatedDefinitions relocatedDefinitions, ObjectNode processors) {
+        var routeConfigurationProcessor = relocatedDefinitions.get(ROUTE_CONFIGURATION_DEFINITION)
                 .withObject("/properties");
         var interceptProcessor = routeConfigurationProcessor.withObject("intercept").withObject("items")
                 .withObject("properties");
@@ -369,9 +391,8 @@ public class CamelYamlDslSchemaProcessor {
         processors.setAll(onCompletionProcessor);
     }
 
-    private void addRestProcessors(ObjectNode relocatedDefinitions, ObjectNode processors) {
-        var restProcessor = relocatedDefinitions
-                .withObject(REST_DEFINITION)
+    private void addRestProcessors(RelocatedDefinitions relocatedDefinitions, ObjectNode processors) {
+        var restProcessor = relocatedDefinitions.get(REST_DEFINITION)
                 .withObject("/properties");
         var restGetProcessor = restProcessor.withObject("get").withObject("items");
         var restPostProcessor = restProcessor.withObject("post").withObject("items");
@@ -495,16 +516,11 @@ public class CamelYamlDslSchemaProcessor {
     }
 
     public Map<String, ObjectNode> getDataFormats() throws Exception {
-        var definitions = yamlDslSchema
-                .withObject("/items")
-                .withObject("/definitions");
-        var relocatedDefinitions = relocateToRootDefinitions(definitions);
-        var fromMarshal = relocatedDefinitions
-                .withObject("/org.apache.camel.model.MarshalDefinition")
+        var relocatedDefinitions = getRelocatedDefinitions();
+        var fromMarshal = relocatedDefinitions.get("org.apache.camel.model.MarshalDefinition")
                 .withArray("/anyOf")
                 .get(0).withArray("/oneOf");
-        var fromUnmarshal = relocatedDefinitions
-                .withObject("/org.apache.camel.model.UnmarshalDefinition")
+        var fromUnmarshal = relocatedDefinitions.get("org.apache.camel.model.UnmarshalDefinition")
                 .withArray("/anyOf")
                 .get(0).withArray("/oneOf");
         if (fromMarshal.size() != fromUnmarshal.size()) {
@@ -524,7 +540,7 @@ public class CamelYamlDslSchemaProcessor {
                     .withObject("/properties")
                     .withObject("/" + entryName);
             var entryDefinitionName = getNameFromRef(property);
-            var dataformat = relocatedDefinitions.withObject("/" + entryDefinitionName);
+            var dataformat = relocatedDefinitions.get(entryDefinitionName);
             if (!dataformat.has("oneOf")) {
                 populateDefinitions(dataformat, relocatedDefinitions);
                 answer.put(entryName, dataformat);
@@ -553,12 +569,8 @@ public class CamelYamlDslSchemaProcessor {
     }
 
     public Map<String, ObjectNode> getLanguages() throws Exception {
-        var definitions = yamlDslSchema
-                .withObject("/items")
-                .withObject("/definitions");
-        var relocatedDefinitions = relocateToRootDefinitions(definitions);
-        var languages = relocatedDefinitions
-                .withObject("/org.apache.camel.model.language.ExpressionDefinition")
+        var relocatedDefinitions = getRelocatedDefinitions();
+        var languages = relocatedDefinitions.get("org.apache.camel.model.language.ExpressionDefinition")
                 .withArray("/anyOf").get(0)
                 .withArray("/oneOf");
 
@@ -572,7 +584,7 @@ public class CamelYamlDslSchemaProcessor {
                     .withObject("/properties")
                     .withObject("/" + entryName);
             var entryDefinitionName = getNameFromRef(property);
-            var language = relocatedDefinitions.withObject("/" + entryDefinitionName);
+            var language = relocatedDefinitions.get(entryDefinitionName);
             if (!language.has("oneOf")) {
                 populateDefinitions(language, relocatedDefinitions);
                 answer.put(entryName, language);
@@ -628,10 +640,7 @@ public class CamelYamlDslSchemaProcessor {
      * @return A map of the entity name and the schema
      */
     public Map<String, ObjectNode> getEntities() throws Exception {
-        var definitions = yamlDslSchema
-                .withObject("/items")
-                .withObject("/definitions");
-        var relocatedDefinitions = relocateToRootDefinitions(definitions);
+        var relocatedDefinitions = getRelocatedDefinitions();
         var yamlIn = yamlDslSchema
                 .withObject("/items")
                 .withObject("/properties");
@@ -641,7 +650,7 @@ public class CamelYamlDslSchemaProcessor {
             var yamlInName = yamlInRef.getKey();
             var yamlInRefValue = (ObjectNode) yamlInRef.getValue();
             var yamlInFQCN = getNameFromRef(yamlInRefValue);
-            var yamlInDefinition = relocatedDefinitions.withObject("/" + yamlInFQCN);
+            var yamlInDefinition = relocatedDefinitions.get(yamlInFQCN);
             yamlInDefinition = extractFromOneOf(yamlInFQCN, yamlInDefinition);
             yamlInDefinition.remove("oneOf");
             processAndRemoveAnyOfForSubCatalogs(yamlInFQCN, yamlInDefinition);
@@ -684,12 +693,8 @@ public class CamelYamlDslSchemaProcessor {
     }
 
     public Map<String, ObjectNode> getLoadBalancers() throws Exception {
-        var definitions = yamlDslSchema
-                .withObject("/items")
-                .withObject("/definitions");
-        var relocatedDefinitions = relocateToRootDefinitions(definitions);
-        var loadBalancerAnyOfOneOf = relocatedDefinitions
-                .withObject("/" + LOAD_BALANCE_DEFINITION)
+        var relocatedDefinitions = getRelocatedDefinitions();
+        var loadBalancerAnyOfOneOf = relocatedDefinitions.get(LOAD_BALANCE_DEFINITION)
                 .withArray("/anyOf").get(0)
                 .withArray("/oneOf");
 
@@ -706,7 +711,7 @@ public class CamelYamlDslSchemaProcessor {
                     .withObject("/properties")
                     .withObject("/" + entryName);
             var entryDefinitionName = getNameFromRef(property);
-            var loadBalancer = relocatedDefinitions.withObject("/" + entryDefinitionName);
+            var loadBalancer = relocatedDefinitions.get(entryDefinitionName);
             if (loadBalancer.has("oneOf")) {
                 var lbOneOf = loadBalancer.withArray("/oneOf");
                 if (lbOneOf.size() != 2) {
@@ -742,4 +747,30 @@ public class CamelYamlDslSchemaProcessor {
         }
         return answer;
     }
+
+    /**
+     * Copy-on-read view of the shared relocated definitions. Reading a definition through the view the first time
+     * copies it, and every later read gets the same copy, so an extraction sees its own changes as it would on a
+     * copy of all the definitions, while only the definitions it reads are copied.
+     */
+    private static final class RelocatedDefinitions {
+        private final ObjectNode definitions;
+        private final Map<String, ObjectNode> copies = new HashMap<>();
+
+        private RelocatedDefinitions(ObjectNode definitions) {
+            this.definitions = definitions;
+        }
+
+        /**
+         * @param name the definition name, e.g. "org.apache.camel.model.ProcessorDefinition"
+         * @return the copy of the definition, an empty one when it doesn't exist
+         */
+        ObjectNode get(String name) {
+            return copies.computeIfAbsent(name, key -> {
+                var definition = definitions.get(key);
+                return definition instanceof ObjectNode objectNode ? objectNode.deepCopy()
+                        : JsonNodeFactory.instance.objectNode();
+            });
+        }
+    }
 }
@@ -0,0 +1,216 @@
+/*
+ * Copyright (C) 2023 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.kaoto.camelcatalog.generator;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.kaoto.camelcatalog.model.CatalogDefinition;
+import org.apache.commons.io.FileUtils;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.stream.Stream;
+
+/**
+ * On-disk cache of generated catalogs.
+ * Each entry is a folder named after the fingerprint of the generation inputs, holding a copy of the files written
+ * in the catalog output directory, including its {@code index-<hash>.json} file.
+ */
+public class CatalogCache {
+    private static final Logger LOGGER = Logger.getLogger(CatalogCache.class.getName());
+    private static final ObjectMapper jsonMapper = new ObjectMapper();
+    private static final String INDEX_FILE_PREFIX = "index-";
+    private static String generatorVersion;
+
+    private final File cacheDirectory;
+
+    public CatalogCache(File cacheDirectory) {
+        this.cacheDirectory = cacheDirectory;
+    }
+
+    public File getCacheDirectory() {
+        return cacheDirectory;
+    }
+
+    /**
+     * Compute the cache key for the given generation inputs.
+     *
+     * @param inputs    the versions and identifiers of the catalog being generated, {@code null} values are allowed
+     * @param resources the bundled resources used during the generation, grouped by folder name
+     * @return the fingerprint of the inputs, combined with the generator version
+     */
+    public String getKey(List<String> inputs, Map<String, Map<String, String>> resources) throws Exception {
+        var digest = MessageDigest.getInstance("SHA-256");
+        inputs.forEach(input -> update(digest, String.valueOf(input)));
+
+        new TreeMap<>(resources).forEach((folderName, files) -> {
+            update(digest, folderName);
+            new TreeMap<>(files).forEach((fileName, content) -> {
+                update(digest, fileName);
+                update(digest, content);
+            });
+        });
+
+        update(digest, getGeneratorVersion());
+
+        return new java.math.BigInteger(1, digest.digest()).toString(16);
+    }
+
+    /**
+     * Check whether a catalog can be restored, without restoring it.
+     *
+     * @param key the cache key
+     * @return {@code true} when the catalog is cached
+     */
+    public boolean contains(String key) {
+        Path entry = cacheDirectory.toPath().resolve(key);
+        if (!Files.isDirectory(entry)) {
+            return false;
+        }
+
+        try (Stream<Path> files = Files.list(entry)) {
+            return files.anyMatch(path -> isIndexFile(path.getFileName().toString()));
+        } catch (IOException e) {
+            LOGGER.log(Level.SEVERE, e.toString(), e);
+            return false;
+        }
+    }
+
+    /**
+     * Copy a previously generated catalog into the output directory.
+     *
+     * @param key             the cache key
+     * @param outputDirectory the catalog output directory
+     * @return the restored catalog definition, or {@code null} when the catalog is not cached
+     */
+    public CatalogDefinition restore(String key, File outputDirectory) {
+        Path entry = cacheDirectory.toPath().resolve(key);
+        if (!Files.isDirectory(entry)) {
+            return null;
+        }
+
+        try (Stream<Path> files = Files.list(entry)) {
+            Path indexFile = files.filter(path -> isIndexFile(path.getFileName().toString())).findFirst().orElse(null);
+            if (indexFile == null) {
+                LOGGER.warning("Ignoring cache entry without index file: " + entry);
+                return null;
+            }
+
+            var catalogDefinition = jsonMapper.readValue(indexFile.toFile(), CatalogDefinition.class);
+            catalogDefinition.setFileName(indexFile.getFileName().toString());
+            FileUtils.copyDirectory(entry.toFile(), outputDirectory);
+
+            return catalogDefinition;
+        } catch (IOException e) {
+            LOGGER.log(Level.SEVERE, e.toString(), e);
+        }
+
+        return null;
+    }
+
+    /**
+     * Store the content of the catalog output directory. The entry is written in a temporary folder first and then
+     * moved in place, so a partially written entry is never restored.
+     *
+     * @param key             the cache key
+     * @param outputDirectory the catalog output directory
+     */
+    public void store(String key, File outputDirectory) {
+        Path entry = cacheDirectory.toPath().resolve(key);
+        Path tempEntry = cacheDirectory.toPath().resolve(key + ".tmp-" + UUID.randomUUID());
+
+        try {
+            FileUtils.copyDirectory(outputDirectory, tempEntry.toFile());
+            try {
+                Files.move(tempEntry, entry, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tempEntry, entry);
+            }
+        } catch (IOException e) {
+            if (Files.isDirectory(entry)) {
+                // Another run stored the same catalog in the meantime
+                LOGGER.fine("Catalog already cached: " + entry);
+            } else {
+                LOGGER.log(Level.SEVERE, e.toString(), e);
+            }
+        } finally {
+            FileUtils.deleteQuietly(tempEntry.toFile());
+        }
+    }
+
+    private static boolean isIndexFile(String fileName) {
+        return fileName.startsWith(INDEX_FILE_PREFIX) && fileName.endsWith(".json");
+    }
+
+    private static void update(MessageDigest digest, String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        digest.update(Integer.toString(bytes.length).getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) ':');
+        digest.update(bytes);
+    }
+
+    /*
+     * The generator version is the fingerprint of its own code, either the jar or the classes folder it was loaded
+     * from, so any change in the generator invalidates the cached catalogs.
+     */
+    static synchronized String getGeneratorVersion() {
+        if (generatorVersion != null) {
+            return generatorVersion;
+        }
+
+        try {
+            var digest = MessageDigest.getInstance("SHA-256");
+            Path location = Paths.get(CatalogCache.class.getProtectionDomain().getCodeSource().getLocation().toURI());
+
+            if (Files.isDirectory(location)) {
+                try (Stream<Path> files = Files.walk(location)) {
+                    for (Path file : files.filter(Files::isRegularFile).sorted().toList()) {
+                        update(digest, location.relativize(file).toString());
+                        digest.update(Files.readAllBytes(file));
+                    }
+                }
+            } else {
+                try (InputStream inputStream = Files.newInputStream(location)) {
+                    byte[] buffer = new byte[8192];
+                    int read;
+                    while ((read = inputStream.read(buffer)) != -1) {
+                        digest.update(buffer, 0, read);
+                    }
+                }
+            }
+
+            generatorVersion = new java.math.BigInteger(1, digest.digest()).toString(16);
+        } catch (Exception e) {
+            LOGGER.log(Level.WARNING, "Unable to fingerprint the generator, using a random version", e);
+            generatorVersion = UUID.randomUUID().toString();
+        }
+
+        return generatorVersion;
+    }
+}
@@ -15,8 +15,6 @@
  */
 package io.kaoto.camelcatalog.generator;
 
-import com.fasterxml.jackson.core.JsonFactory;
-import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
@@ -24,14 +22,24 @@ import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
 import io.kaoto.camelcatalog.generators.SchemasGenerator;
 import io.kaoto.camelcatalog.maven.CamelCatalogVersionLoader;
+import io.kaoto.camelcatalog.maven.MavenArtifactResolver;
 import io.kaoto.camelcatalog.model.CatalogDefinition;
 import io.kaoto.camelcatalog.model.CatalogDefinitionEntry;
 
 import java.io.*;
-import java.nio.file.Files;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.logging.Level;
 import java.util.logging.Logger;
+import java.util.stream.Stream;
 
 import static io.kaoto.camelcatalog.model.Constants.*;
 
@@ -48,6 +56,9 @@ public class CatalogGenerator {
     private String camelCatalogVersion;
     private String kameletsVersion;
     private String camelKCRDsVersion;
+    private CatalogCache catalogCache;
+    private Executor executor;
+    private ArtifactStore artifactStore;
 
     CatalogGenerator(CatalogGeneratorBuilder catalogGeneratorBuilder, CamelCatalogVersionLoader camelCatalogVersionLoader,
                      File outputDirectory) {
@@ -57,21 +68,32 @@ public class CatalogGenerator {
     }
 
     public CatalogDefinition generate() {
-        camelCatalogVersionLoader.loadKameletBoundaries();
-        camelCatalogVersionLoader.loadCamelCatalog(camelCatalogVersion);
-        camelCatalogVersionLoader.loadKamelets(kameletsVersion);
-        camelCatalogVersionLoader.loadKubernetesSchema();
-        camelCatalogVersionLoader.loadCamelKCRDs(camelKCRDsVersion);
+        String cacheKey = null;
+        if (catalogCache != null) {
+            cacheKey = getCacheKey();
+            var cachedCatalogDefinition = cacheKey == null ? null : catalogCache.restore(cacheKey, outputDirectory);
+            if (cachedCatalogDefinition != null) {
+                LOGGER.info("Catalog restored from cache: " + cachedCatalogDefinition.getName());
+                return cachedCatalogDefinition;
+            }
+        }
+
+        boolean isLoaded = camelCatalogVersionLoader.loadKameletBoundaries();
+        isLoaded &= camelCatalogVersionLoader.loadCamelCatalog(camelCatalogVersion);
+        isLoaded &= camelCatalogVersionLoader.loadKamelets(kameletsVersion);
+        isLoaded &= camelCatalogVersionLoader.loadKubernetesSchema();
+        isLoaded &= camelCatalogVersionLoader.loadCamelKCRDs(camelKCRDsVersion);
         camelCatalogVersionLoader.loadLocalSchemas();
         camelCatalogVersionLoader.loadKaotoPatterns();
-        camelCatalogVersionLoader.loadCamelYamlDsl(camelCatalogVersion);
+        isLoaded &= camelCatalogVersionLoader.loadCamelYamlDsl(camelCatalogVersion);
 
         var catalogDefinition = new CatalogDefinition();
         var yamlDslSchemaProcessor = processCamelSchema();
-        processCatalog(yamlDslSchemaProcessor, catalogDefinition);
-        processKameletBoundaries(catalogDefinition);
-        processKamelets(catalogDefinition);
-        processSchemas(catalogDefinition);
+        boolean isProcessed = yamlDslSchemaProcessor != null;
+        isProcessed &= processCatalog(yamlDslSchemaProcessor, catalogDefinition);
+        isProcessed &= processKameletBoundaries(catalogDefinition);
+        isProcessed &= processKamelets(catalogDefinition);
+        isProcessed &= processSchemas(catalogDefinition);
 
         try {
             catalogDefinition
@@ -79,14 +101,15 @@ public class CatalogGenerator {
             catalogDefinition.setVersion(camelCatalogVersion);
             catalogDefinition.setRuntime(camelCatalogVersionLoader.getRuntime());
 
-            String content = jsonMapper.writeValueAsString(catalogDefinition);
-            String filename = String.format("%s-%s.json", "index",
-                    Util.generateHash(content));
-
-            File indexFile = outputDirectory.toPath().resolve(filename).toFile();
-            catalogDefinition.setFileName(indexFile.getName());
+            try (var indexWriter = new HashedFileWriter(outputDirectory.toPath(), "index", ".json")) {
+                Util.createTabWriter(jsonMapper).writeValue(indexWriter.getOutputStream(), catalogDefinition);
+                catalogDefinition.setFileName(indexWriter.commit());
+            }
 
-            Util.createTabWriter(jsonMapper).writeValue(indexFile, catalogDefinition);
+            // Only complete catalogs are cached, so a transient loading or processing failure is retried on the next run
+            if (cacheKey != null && isLoaded && isProcessed) {
+                catalogCache.store(cacheKey, outputDirectory);
+            }
 
             return catalogDefinition;
         } catch (Exception e) {
@@ -96,6 +119,24 @@ public class CatalogGenerator {
         return null;
     }
 
+    /**
+     * List the Maven artifacts the generation of this catalog resolves, so they can be resolved ahead of time.
+     *
+     * @return the artifacts to resolve, none when the catalog is restored from the cache
+     */
+    public List<MavenArtifactResolver.Request> getArtifactRequests() {
+        if (catalogCache != null) {
+            var cacheKey = getCacheKey();
+            if (cacheKey != null && catalogCache.contains(cacheKey)) {
+                return List.of();
+            }
+        }
+
+        return CamelCatalogVersionLoader.getArtifactRequests(camelCatalogVersionLoader.getRuntime(),
+                camelCatalogVersion, kameletsVersion, camelKCRDsVersion,
+                camelCatalogVersionLoader.getResolutionProfile());
+    }
+
     public String getKameletsVersion() {
         return kameletsVersion;
     }
@@ -120,17 +161,82 @@ public class CatalogGenerator {
         this.camelKCRDsVersion = camelKCRDsVersion;
     }
 
+    public CatalogCache getCatalogCache() {
+        return catalogCache;
+    }
+
+    public void setCatalogCache(CatalogCache catalogCache) {
+        this.catalogCache = catalogCache;
+    }
+
+    public Executor getExecutor() {
+        return executor;
+    }
+
+    /**
+     * @param executor the executor to build the sub-catalogs, e.g. components or patterns, and parse the kamelets
+     *                 concurrently on
+     */
+    public void setExecutor(Executor executor) {
+        this.executor = executor;
+    }
+
+    public ArtifactStore getArtifactStore() {
+        return artifactStore;
+    }
+
+    /**
+     * @param artifactStore the store to share identical artifacts with the other catalogs through, or {@code null}
+     *                      to write every artifact in this catalog folder
+     */
+    public void setArtifactStore(ArtifactStore artifactStore) {
+        this.artifactStore = artifactStore;
+    }
+
+    /*
+     * The cache key covers everything the generation depends on: the requested versions, the resources bundled
+     * with the generator and the generator itself. The bundled resources are loaded before any Maven dependency is
+     * resolved, so computing the key is cheap. Snapshots change under the same version, so they are never cached.
+     */
+    private String getCacheKey() {
+        if (Stream.of(camelCatalogVersion, kameletsVersion, camelKCRDsVersion)
+                .anyMatch(version -> version != null && version.endsWith("SNAPSHOT"))) {
+            return null;
+        }
+
+        camelCatalogVersionLoader.loadKameletBoundaries();
+        camelCatalogVersionLoader.loadLocalSchemas();
+        camelCatalogVersionLoader.loadKaotoPatterns();
+        // The schema source is shared, so this only loads it for the first catalog
+        camelCatalogVersionLoader.loadKubernetesSchema();
+
+        var kameletBoundaries = new HashMap<String, String>();
+        var boundaries = camelCatalogVersionLoader.getKameletBoundaries().stream().sorted().toList();
+        for (int i = 0; i < boundaries.size(); i++) {
+            kameletBoundaries.put(String.valueOf(i), boundaries.get(i));
+        }
+
+        try {
+            return catalogCache.getKey(
+                    Arrays.asList(camelCatalogVersionLoader.getRuntime().name(), camelCatalogVersion, kameletsVersion,
+                            camelKCRDsVersion, Util.generateHash(camelCatalogVersionLoader.getKubernetesSchema())),
+                    Map.of(KAMELET_BOUNDARIES_KEY, kameletBoundaries,
+                            "schemas", camelCatalogVersionLoader.getLocalSchemas(),
+                            "kaoto-patterns", camelCatalogVersionLoader.getKaotoPatterns()));
+        } catch (Exception e) {
+            LOGGER.log(Level.SEVERE, e.toString(), e);
+            return null;
+        }
+    }
+
     private CamelYamlDslSchemaProcessor processCamelSchema() {
-        if (camelCatalogVersionLoader.getCamelYamlDslSchema() == null) {
+        var yamlDslSchema = camelCatalogVersionLoader.getCamelYamlDslSchemaNode();
+        if (yamlDslSchema == null) {
             LOGGER.severe("Camel YAML DSL JSON Schema is not loaded");
             return null;
         }
 
-        var camelYamlDSLSchema07 = camelCatalogVersionLoader.getCamelYamlDslSchema().replace(
-                "http://json-schema.org/draft-04/schema#", "http://json-schema.org/draft-07/schema#");
-
         try {
-            var yamlDslSchema = (ObjectNode) jsonMapper.readTree(camelYamlDSLSchema07);
             return new CamelYamlDslSchemaProcessor(jsonMapper, yamlDslSchema);
         } catch (Exception e) {
             LOGGER.log(Level.SEVERE, e.toString(), e);
@@ -138,17 +244,19 @@ public class CatalogGenerator {
         }
     }
 
-    private void processCatalog(CamelYamlDslSchemaProcessor schemaProcessor, CatalogDefinition index) {
+    /**
+     * @return whether every catalog was written
+     */
+    private boolean processCatalog(CamelYamlDslSchemaProcessor schemaProcessor, CatalogDefinition index) {
         var catalogProcessor = new CamelCatalogProcessor(camelCatalogVersionLoader.getCamelCatalog(), jsonMapper,
                 schemaProcessor, catalogGeneratorBuilder.getRuntime(), camelCatalogVersionLoader);
+        catalogProcessor.setExecutor(executor);
+        var isProcessed = new AtomicBoolean(true);
         try {
-            var catalogMap = catalogProcessor.processCatalog();
-            catalogMap.forEach((name, catalog) -> {
+            catalogProcessor.processCatalog((name, catalog) -> {
                 try {
-                    var outputFileName = String.format(
-                            "%s-%s-%s.json", CAMEL_CATALOG_AGGREGATE, name, Util.generateHash(catalog));
-                    var output = outputDirectory.toPath().resolve(outputFileName);
-                    Files.writeString(output, catalog);
+                    var outputFileName = writeArtifact(null, String.format("%s-%s", CAMEL_CATALOG_AGGREGATE, name),
+                            ".json", outputStream -> Util.writePrettyJSON(catalog, outputStream));
                     var indexEntry = new CatalogDefinitionEntry(
                             name,
                             "Aggregated Camel catalog for " + name,
@@ -157,63 +265,101 @@ public class CatalogGenerator {
                     index.getCatalogs().put(name, indexEntry);
                 } catch (Exception e) {
                     LOGGER.log(Level.SEVERE, e.toString(), e);
+                    isProcessed.set(false);
                 }
             });
         } catch (Exception e) {
             LOGGER.log(Level.SEVERE, e.toString(), e);
+            return false;
         }
+
+        return isProcessed.get();
     }
 
-    private void processKameletBoundaries(CatalogDefinition index) {
+    /**
+     * @return whether the kamelet boundaries were written
+     */
+    private boolean processKameletBoundaries(CatalogDefinition index) {
         if (camelCatalogVersionLoader.getKameletBoundaries().isEmpty()) {
             LOGGER.severe("Kamelet boundaries are not loaded");
-            return;
+            return false;
         }
 
+        // The boundaries are bundled with the generator, so they are the same for every catalog
+        var isComplete = new AtomicBoolean(true);
         var indexEntry = getKameletsEntry(camelCatalogVersionLoader.getKameletBoundaries(), KAMELET_BOUNDARIES_KEY,
-                KAMELET_BOUNDARIES_FILENAME, "Aggregated Kamelet boundaries in JSON");
+                KAMELET_BOUNDARIES_KEY, KAMELET_BOUNDARIES_FILENAME, "Aggregated Kamelet boundaries in JSON",
+                isComplete);
+        if (indexEntry == null) {
+            return false;
+        }
+
         index.getCatalogs().put(indexEntry.name(), indexEntry);
+        return isComplete.get();
     }
 
-    private void processKamelets(CatalogDefinition index) {
+    /**
+     * @return whether the kamelets were loaded and written
+     */
+    private boolean processKamelets(CatalogDefinition index) {
         if (camelCatalogVersionLoader.getKamelets().isEmpty()) {
             LOGGER.severe("Kamelets are not loaded");
         }
 
-        var indexEntry = getKameletsEntry(camelCatalogVersionLoader.getKamelets(), KAMELETS, KAMELETS_AGGREGATE,
-                "Aggregated Kamelets in JSON");
+        /*
+         * Without a version, the kamelets come from the classpath of the catalog and cannot be shared. Kamelets that
+         * failed to load are not shared either, so the next catalog loads them again
+         */
+        var sourceKey = kameletsVersion == null || camelCatalogVersionLoader.getKamelets().isEmpty()
+                ? null
+                : KAMELETS + "/" + kameletsVersion;
+        var isComplete = new AtomicBoolean(!camelCatalogVersionLoader.getKamelets().isEmpty());
+        var indexEntry = getKameletsEntry(camelCatalogVersionLoader.getKamelets(), KAMELETS, sourceKey,
+                KAMELETS_AGGREGATE, "Aggregated Kamelets in JSON", isComplete);
+        if (indexEntry == null) {
+            return false;
+        }
+
         index.getCatalogs().put(indexEntry.name(), indexEntry);
+        return isComplete.get();
     }
 
-    private CatalogDefinitionEntry getKameletsEntry(List<String> kamelets, String name, String filename,
-                                                    String description) {
-        var root = jsonMapper.createObjectNode();
-
+    /**
+     * Write the aggregate of the given kamelets. Kamelets that cannot be parsed are left out of it, and such an
+     * aggregate is only written for this catalog instead of being shared, so every catalog reports them.
+     *
+     * @param isComplete set to {@code false} when some kamelets cannot be parsed
+     * @return the index entry of the aggregate, or {@code null} when it cannot be written
+     */
+    private CatalogDefinitionEntry getKameletsEntry(List<String> kamelets, String name, String sourceKey,
+                                                    String filename, String description, AtomicBoolean isComplete) {
         try {
-            sortKamelets(kamelets).forEach(kamelet -> {
-                processKameletFile(kamelet, root);
-            });
-
-            JsonFactory jsonFactory = new JsonFactory();
-            var outputStream = new ByteArrayOutputStream();
-            var writer = new OutputStreamWriter(outputStream);
-
-            try (JsonGenerator jsonGenerator = jsonFactory.createGenerator(writer).setPrettyPrinter(Util.createTabPrettyPrinter())) {
-                jsonMapper.writeTree(jsonGenerator, root);
-                var rootBytes = outputStream.toByteArray();
-                var outputFileName = String.format("%s-%s.json", filename, Util.generateHash(rootBytes));
-                var output = outputDirectory.toPath().resolve(outputFileName);
-
-                Files.write(output, rootBytes);
-
-                return new CatalogDefinitionEntry(
-                        name,
-                        description,
-                        kameletsVersion,
-                        outputFileName);
+            String outputFileName;
+            try {
+                outputFileName = writeArtifact(sourceKey, filename, ".json", outputStream -> {
+                    if (!writeKamelets(kamelets, outputStream)) {
+                        isComplete.set(false);
+                        if (sourceKey != null) {
+                            throw new IOException("Some kamelets cannot be parsed: " + sourceKey);
+                        }
+                    }
+                });
             } catch (IOException e) {
-                LOGGER.log(Level.SEVERE, e.toString(), e);
+                if (sourceKey == null) {
+                    throw e;
+                }
+                outputFileName = writeArtifact(null, filename, ".json", outputStream -> {
+                    if (!writeKamelets(kamelets, outputStream)) {
+                        isComplete.set(false);
+                    }
+                });
             }
+
+            return new CatalogDefinitionEntry(
+                    name,
+                    description,
+                    kameletsVersion,
+                    outputFileName);
         } catch (Exception e) {
             LOGGER.log(Level.SEVERE, e.toString(), e);
         }
@@ -221,72 +367,122 @@ public class CatalogGenerator {
         return null;
     }
 
-    private void processKameletFile(String kamelet, ObjectNode targetObject) {
+    /**
+     * @return whether every kamelet was parsed
+     */
+    private boolean writeKamelets(List<String> kamelets, OutputStream outputStream) throws IOException {
+        var parsedKamelets = parseKamelets(kamelets);
+        var root = jsonMapper.createObjectNode();
+        parsedKamelets.forEach(kamelet -> root.putIfAbsent(kamelet.sortKey(), kamelet.node()));
+        Util.writePrettyJSON(root, outputStream);
+        return parsedKamelets.size() == kamelets.size();
+    }
+
+    /**
+     * Parse and process every kamelet exactly once, on the executor when it is a fork/join pool, and return them
+     * sorted by their lower-cased name. Kamelets that cannot be parsed are logged and left out.
+     */
+    private List<ParsedKamelet> parseKamelets(List<String> kamelets) {
+        var parsedKamelets = executor instanceof ForkJoinPool forkJoinPool
+                ? forkJoinPool.submit(() -> parseKamelets(kamelets.parallelStream())).join()
+                : parseKamelets(kamelets.stream());
+
+        return parsedKamelets.stream()
+                .sorted(Comparator.comparing(ParsedKamelet::sortKey))
+                .toList();
+    }
+
+    private List<ParsedKamelet> parseKamelets(Stream<String> kamelets) {
+        return kamelets.map(this::parseKamelet)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    private ParsedKamelet parseKamelet(String kamelet) {
         try {
             JsonNode kameletNode = yamlMapper.readTree(kamelet);
             String lowerFileName = kameletNode.get("metadata").get("name").asText().toLowerCase();
 
             KameletProcessor.process((ObjectNode) kameletNode);
-            targetObject.putIfAbsent(lowerFileName, kameletNode);
+            return new ParsedKamelet(lowerFileName, kameletNode);
         } catch (Exception e) {
             LOGGER.log(Level.SEVERE, e.toString(), e);
+            return null;
         }
     }
 
-    private List<String> sortKamelets(List<String> kamelets) {
-        return kamelets.stream().sorted(
-            (k1, k2) -> {
-                try {
-                    JsonNode kameletNode1 = yamlMapper.readTree(k1);
-                    JsonNode kameletNode2 = yamlMapper.readTree(k2);
-                    String kamelet1 = kameletNode1.get("metadata").get("name").asText().toLowerCase();
-                    String kamelet2 = kameletNode2.get("metadata").get("name").asText().toLowerCase();
-                    return kamelet1.compareTo(kamelet2);
-                } catch (Exception e) {
-                    LOGGER.log(Level.SEVERE, e.toString(), e);
-                }
-                return 0;
-            }).toList();
+    private record ParsedKamelet(String sortKey, JsonNode node) {
     }
 
+    /**
+     * Write an artifact named after the hash of its content into the catalog folder, sharing it through the artifact
+     * store when there is one.
+     *
+     * @param sourceKey the key of the inputs the artifact is built from, or {@code null} when it is specific to
+     *                  this catalog
+     * @return the hashed file name
+     */
+    private String writeArtifact(String sourceKey, String fileNamePrefix, String fileNameExtension,
+                                 ArtifactStore.ContentWriter contentWriter) throws IOException {
+        if (artifactStore != null) {
+            return artifactStore.write(sourceKey, outputDirectory.toPath(), fileNamePrefix, fileNameExtension,
+                    contentWriter);
+        }
 
-    private void processSchemas(CatalogDefinition index) {
+        try (var writer = new HashedFileWriter(outputDirectory.toPath(), fileNamePrefix, fileNameExtension)) {
+            contentWriter.write(writer.getOutputStream());
+            return writer.commit();
+        }
+    }
+
+    /**
+     * @return whether every schema was written
+     */
+    private boolean processSchemas(CatalogDefinition index) {
         SchemasGenerator schemasGenerator = new SchemasGenerator(camelCatalogVersionLoader,
                                                                  camelCatalogVersionLoader.getClassLoader());
         var schemaMap = schemasGenerator.generate();
+        var isProcessed = new AtomicBoolean(true);
 
         schemaMap.forEach((name, schema) -> {
             try {
-                String outputFileName;
+                String fileNamePrefix;
+                String fileNameExtension = ".json";
                 String description;
                 String version;
+                String sourceKey = null;
 
                 if (CAMEL_YAML_DSL_FILE_NAME.equals(name)) {
-                    outputFileName = String.format("%s-%s.json", name, Util.generateHash(schema));
+                    fileNamePrefix = name;
                     description = "Camel YAML DSL JSON schema";
                     version = camelCatalogVersion;
                 } else if (schema.startsWith("<?xml") || schema.contains("http://www.w3.org/2001/XMLSchema")) {
                     // XSD schemas - detected by XML content
-                    outputFileName = String.format("%s-%s.xsd", name, Util.generateHash(schema));
+                    fileNamePrefix = name;
+                    fileNameExtension = ".xsd";
                     description = "Camel XSD schema for " + name;
                     version = camelCatalogVersion;
                 } else {
                     // CRD schemas
-                    outputFileName = String.format("%s-%s-%s.json", CRD_SCHEMA, name.toLowerCase(), Util.generateHash(schema));
+                    fileNamePrefix = String.format("%s-%s", CRD_SCHEMA, name.toLowerCase());
                     description = name;
                     version = camelKCRDsVersion;
+                    // The CRDs are pinned to their own version, so they are the same for every catalog
+                    sourceKey = camelKCRDsVersion == null ? null : CRD_SCHEMA + "/" + camelKCRDsVersion + "/" + name;
                 }
 
-                var output = outputDirectory.toPath().resolve(outputFileName);
-                output.getParent().toFile().mkdirs();
-                Files.writeString(output, schema);
+                String outputFileName = writeArtifact(sourceKey, fileNamePrefix, fileNameExtension,
+                        outputStream -> outputStream.write(schema.getBytes(StandardCharsets.UTF_8)));
 
                 var indexEntry = new CatalogDefinitionEntry(name, description, version, outputFileName);
                 index.getSchemas().put(name, indexEntry);
 
             } catch (Exception e) {
                 LOGGER.log(Level.SEVERE, "Error processing schema: " + name, e);
+                isProcessed.set(false);
             }
         });
+
+        return isProcessed.get();
     }
 }
@@ -16,8 +16,12 @@
 package io.kaoto.camelcatalog.generator;
 
 import java.io.File;
+import java.util.concurrent.Executor;
 
 import io.kaoto.camelcatalog.maven.CamelCatalogVersionLoader;
+import io.kaoto.camelcatalog.maven.KubernetesSchemaSource;
+import io.kaoto.camelcatalog.maven.MavenArtifactResolver;
+import io.kaoto.camelcatalog.maven.ResolutionProfile;
 import io.kaoto.camelcatalog.model.CatalogRuntime;
 
 /**
@@ -42,7 +46,13 @@ public class CatalogGeneratorBuilder {
     private String kameletsVersion;
     private String camelKCRDsVersion;
     private File outputDirectory;
+    private File cacheDirectory;
     private boolean verbose = false;
+    private Executor executor;
+    private ArtifactStore artifactStore;
+    private KubernetesSchemaSource kubernetesSchemaSource;
+    private ResolutionProfile resolutionProfile;
+    private MavenArtifactResolver artifactResolver;
 
     public CatalogGeneratorBuilder withRuntime(CatalogRuntime runtime) {
         this.runtime = runtime;
@@ -69,11 +79,41 @@ public class CatalogGeneratorBuilder {
         return this;
     }
 
+    public CatalogGeneratorBuilder withCacheDirectory(File cacheDirectory) {
+        this.cacheDirectory = cacheDirectory;
+        return this;
+    }
+
     public CatalogGeneratorBuilder withVerbose(boolean verbose) {
         this.verbose = verbose;
         return this;
     }
 
+    public CatalogGeneratorBuilder withExecutor(Executor executor) {
+        this.executor = executor;
+        return this;
+    }
+
+    public CatalogGeneratorBuilder withArtifactStore(ArtifactStore artifactStore) {
+        this.artifactStore = artifactStore;
+        return this;
+    }
+
+    public CatalogGeneratorBuilder withKubernetesSchemaSource(KubernetesSchemaSource kubernetesSchemaSource) {
+        this.kubernetesSchemaSource = kubernetesSchemaSource;
+        return this;
+    }
+
+    public CatalogGeneratorBuilder withResolutionProfile(ResolutionProfile resolutionProfile) {
+        this.resolutionProfile = resolutionProfile;
+        return this;
+    }
+
+    public CatalogGeneratorBuilder withArtifactResolver(MavenArtifactResolver artifactResolver) {
+        this.artifactResolver = artifactResolver;
+        return this;
+    }
+
     public CatalogRuntime getRuntime() {
         return runtime;
     }
@@ -83,11 +123,23 @@ public class CatalogGeneratorBuilder {
     }
 
     public CatalogGenerator build() {
-        CamelCatalogVersionLoader camelCatalogVersionLoader = new CamelCatalogVersionLoader(runtime, verbose);
+        CamelCatalogVersionLoader camelCatalogVersionLoader = new CamelCatalogVersionLoader(runtime, verbose,
+                artifactResolver == null ? MavenArtifactResolver.getInstance() : artifactResolver);
+        if (kubernetesSchemaSource != null) {
+            camelCatalogVersionLoader.setKubernetesSchemaSource(kubernetesSchemaSource);
+        }
+        if (resolutionProfile != null) {
+            camelCatalogVersionLoader.setResolutionProfile(resolutionProfile);
+        }
         var catalogGenerator = new CatalogGenerator(this, camelCatalogVersionLoader, outputDirectory);
         catalogGenerator.setCamelCatalogVersion(camelCatalogVersion);
         catalogGenerator.setKameletsVersion(kameletsVersion);
         catalogGenerator.setCamelKCRDsVersion(camelKCRDsVersion);
+        catalogGenerator.setExecutor(executor);
+        catalogGenerator.setArtifactStore(artifactStore);
+        if (cacheDirectory != null) {
+            catalogGenerator.setCatalogCache(new CatalogCache(cacheDirectory));
+        }
         return catalogGenerator;
     }
 
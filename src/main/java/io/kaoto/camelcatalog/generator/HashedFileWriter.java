@@ -0,0 +1,97 @@
+/*
+ * Copyright (C) 2025 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.kaoto.camelcatalog.generator;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+
+/**
+ * Writes a file named after the hash of its content, e.g. {@code index-<hash>.json}.
+ * <p>
+ * The content is hashed while it is streamed to a temporary file of the target folder, so it never has to be held in
+ * memory. Once complete, the temporary file is atomically renamed to its final name. A file that is closed without
+ * being committed is discarded.
+ */
+public class HashedFileWriter implements Closeable {
+    private final Path directory;
+    private final String fileNamePrefix;
+    private final String fileNameExtension;
+    private final Path temporaryFile;
+    private final MessageDigest messageDigest;
+    private final DigestOutputStream outputStream;
+    private String fileName;
+
+    /**
+     * @param directory         the folder to write the file into
+     * @param fileNamePrefix    the file name before the hash, e.g. "index"
+     * @param fileNameExtension the file name after the hash, e.g. ".json"
+     */
+    public HashedFileWriter(Path directory, String fileNamePrefix, String fileNameExtension) throws IOException {
+        this.directory = directory;
+        this.fileNamePrefix = fileNamePrefix;
+        this.fileNameExtension = fileNameExtension;
+        this.messageDigest = Util.createHashDigest();
+
+        Files.createDirectories(directory);
+        this.temporaryFile = Files.createTempFile(directory, fileNamePrefix + "-", ".tmp");
+        this.outputStream = new DigestOutputStream(new BufferedOutputStream(Files.newOutputStream(temporaryFile)),
+                messageDigest);
+    }
+
+    /**
+     * Get the stream to write the content to. It can be closed by the caller, e.g. by a JSON generator.
+     */
+    public OutputStream getOutputStream() {
+        return outputStream;
+    }
+
+    /**
+     * Complete the file and move it to its final name.
+     *
+     * @return the final file name, e.g. "index-1a2b3c.json"
+     */
+    public String commit() throws IOException {
+        outputStream.close();
+
+        String hashedFileName = String.format("%s-%s%s", fileNamePrefix, Util.toHashString(messageDigest.digest()),
+                fileNameExtension);
+        Path file = directory.resolve(hashedFileName);
+        try {
+            Files.move(temporaryFile, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temporaryFile, file, StandardCopyOption.REPLACE_EXISTING);
+        }
+
+        fileName = hashedFileName;
+        return fileName;
+    }
+
+    @Override
+    public void close() throws IOException {
+        outputStream.close();
+        if (fileName == null) {
+            Files.deleteIfExists(temporaryFile);
+        }
+    }
+}
@@ -18,14 +18,19 @@ package io.kaoto.camelcatalog.generator;
 import com.fasterxml.jackson.core.JsonFactory;
 import com.fasterxml.jackson.core.util.DefaultIndenter;
 import com.fasterxml.jackson.core.util.DefaultPrettyPrinter;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.ObjectWriter;
 
 import java.io.IOException;
+import java.io.OutputStream;
 import java.io.StringWriter;
+import java.math.BigInteger;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 
 public class Util {
     private static final ObjectMapper jsonMapper = new ObjectMapper();
@@ -49,9 +54,21 @@ public class Util {
     public static String generateHash(byte[] content) throws Exception {
         if (content == null)
             return null;
-        var digest = java.security.MessageDigest.getInstance("MD5");
+        var digest = createHashDigest();
         var hash = digest.digest(content);
-        return new java.math.BigInteger(1, hash).toString(16);
+        return toHashString(hash);
+    }
+
+    static MessageDigest createHashDigest() {
+        try {
+            return MessageDigest.getInstance("MD5");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    static String toHashString(byte[] hash) {
+        return new BigInteger(1, hash).toString(16);
     }
 
     public static String generateHash(Path path) throws Exception {
@@ -72,6 +89,17 @@ public class Util {
         return absolutePath.toString();
     }
 
+    /**
+     * Write the node as tab indented JSON, the same way as {@link #getPrettyJSON(Object)} does, without building the
+     * whole document in memory. JSON trees are written as they are instead of being copied first.
+     */
+    public static void writePrettyJSON(Object node, OutputStream outputStream) throws IOException {
+        var tree = node instanceof JsonNode jsonNode ? jsonNode : jsonMapper.valueToTree(node);
+        try (var jsonGenerator = new JsonFactory().createGenerator(outputStream).setPrettyPrinter(createTabPrettyPrinter())) {
+            jsonMapper.writeTree(jsonGenerator, tree);
+        }
+    }
+
     public static String getPrettyJSON(Object node) throws IOException {
         StringWriter writer = new StringWriter();
         try (var jsonGenerator = new JsonFactory().createGenerator(writer).setPrettyPrinter(createTabPrettyPrinter())) {
@@ -0,0 +1,235 @@
+/*
+ * Copyright (C) 2025 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.kaoto.camelcatalog.generators;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.apache.camel.catalog.CamelCatalog;
+import org.apache.camel.tooling.model.BaseModel;
+import org.apache.camel.tooling.model.BaseOptionModel;
+import org.apache.camel.tooling.model.ComponentModel;
+import org.apache.camel.tooling.model.EipModel;
+import org.apache.camel.tooling.model.Kind;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.logging.Logger;
+
+/**
+ * Registry of the Camel models of a catalog, shared by the generators of that catalog.
+ * <p>
+ * The Java type and model name mapping is built once, when the registry is created. Both the typed models and the
+ * parsed JSON definitions are kept, so every model is read from the catalog only once. The registry is safe to use from
+ * several threads, the catalog itself is only accessed while holding its lock.
+ */
+public class CamelCatalogModelRegistry {
+    private static final Logger LOGGER = Logger.getLogger(CamelCatalogModelRegistry.class.getName());
+    private static final ObjectMapper jsonMapper = new ObjectMapper();
+    private final CamelCatalog camelCatalog;
+    private final Map<String, String> javaTypeToModelName;
+    private final Map<String, String> modelNameToJavaType;
+    private final Map<String, Optional<EipModel>> eipModels = new ConcurrentHashMap<>();
+    private final Map<String, Optional<BaseModel<? extends BaseOptionModel>>> models = new ConcurrentHashMap<>();
+    private final Map<String, Optional<ObjectNode>> modelJsons = new ConcurrentHashMap<>();
+    private final Map<String, Optional<ObjectNode>> componentJsons = new ConcurrentHashMap<>();
+
+    public CamelCatalogModelRegistry(CamelCatalog camelCatalog) {
+        this.camelCatalog = camelCatalog;
+
+        long start = System.currentTimeMillis();
+        Map<String, String> javaTypes = new HashMap<>();
+        Map<String, String> modelNames = new HashMap<>();
+        getModelNames().forEach(modelName -> {
+            EipModel model = getEipModel(modelName);
+            if (model != null) {
+                modelNames.put(model.getJavaType(), modelName);
+                javaTypes.put(modelName, model.getJavaType());
+            }
+        });
+        this.javaTypeToModelName = Collections.unmodifiableMap(modelNames);
+        this.modelNameToJavaType = Collections.unmodifiableMap(javaTypes);
+
+        LOGGER.info(String.format("Indexed %d Camel models in %d ms", modelNameToJavaType.size(),
+                System.currentTimeMillis() - start));
+    }
+
+    /**
+     * Get the EIP model by its name
+     *
+     * @param modelName the name of the Camel model, e.g. "setHeader"
+     * @return the Camel model, or {@code null} if the catalog doesn't have it
+     */
+    public EipModel getEipModel(String modelName) {
+        if (modelName == null) {
+            return null;
+        }
+
+        return eipModels.computeIfAbsent(modelName, name -> {
+            synchronized (camelCatalog) {
+                return Optional.ofNullable(camelCatalog.eipModel(name));
+            }
+        }).orElse(null);
+    }
+
+    /**
+     * Get a model by its kind and name
+     *
+     * @param modelKind the kind of the Camel model
+     * @param modelName the name of the Camel model
+     * @return the Camel model, or {@code null} if the catalog doesn't have it
+     */
+    public BaseModel<? extends BaseOptionModel> getModel(Kind modelKind, String modelName) {
+        if (modelKind == Kind.eip || modelKind == Kind.model) {
+            return getEipModel(modelName);
+        }
+
+        return models.computeIfAbsent(modelKind + ":" + modelName, key -> {
+            synchronized (camelCatalog) {
+                return Optional.ofNullable(camelCatalog.model(modelKind, modelName));
+            }
+        }).orElse(null);
+    }
+
+    /**
+     * Get a component model by its name
+     *
+     * @param componentName the name of the component, e.g. "timer"
+     * @return the component model, or {@code null} if the catalog doesn't have it
+     */
+    public ComponentModel getComponentModel(String componentName) {
+        return (ComponentModel) getModel(Kind.component, componentName);
+    }
+
+    /**
+     * Get the JSON definition of a model, as provided by {@link CamelCatalog#modelJSonSchema(String)}
+     *
+     * @param modelName the name of the Camel model, e.g. "setHeader"
+     * @return a copy of the parsed definition that the caller can modify, or {@code null} if the catalog doesn't have it
+     * @throws IllegalArgumentException if the definition is not a valid JSON object
+     */
+    public ObjectNode getModelJson(String modelName) {
+        return getJson(modelJsons, modelName, camelCatalog::modelJSonSchema);
+    }
+
+    /**
+     * Get the JSON definition of a component, as provided by {@link CamelCatalog#componentJSonSchema(String)}
+     *
+     * @param componentName the name of the component, e.g. "timer"
+     * @return a copy of the parsed definition that the caller can modify, or {@code null} if the catalog doesn't have it
+     * @throws IllegalArgumentException if the definition is not a valid JSON object
+     */
+    public ObjectNode getComponentJson(String componentName) {
+        return getJson(componentJsons, componentName, camelCatalog::componentJSonSchema);
+    }
+
+    /**
+     * Get the Camel model by its Java type
+     *
+     * @param javaType the Java type string of the Camel model, e.g. "org.apache.camel.language.simple.SimpleExpression"
+     * @return the Camel model, or {@code null} if the catalog doesn't have it
+     */
+    public EipModel getEipModelByJavaType(String javaType) {
+        return getEipModel(javaTypeToModelName.get(javaType));
+    }
+
+    /**
+     * Get the Java type of a model
+     *
+     * @param modelName the name of the Camel model, e.g. "setHeader"
+     * @return the Java type of the model, or {@code null} if the catalog doesn't have it
+     */
+    public String getJavaTypeByModelName(String modelName) {
+        String javaType = modelNameToJavaType.get(modelName);
+        if (javaType == null) {
+            EipModel model = getEipModel(modelName);
+            if (model != null) {
+                javaType = model.getJavaType();
+            }
+        }
+        return javaType;
+    }
+
+    private ObjectNode getJson(Map<String, Optional<ObjectNode>> cache, String name,
+                               Function<String, String> jsonProvider) {
+        if (name == null) {
+            return null;
+        }
+
+        return cache.computeIfAbsent(name, key -> {
+            String json;
+            synchronized (camelCatalog) {
+                json = jsonProvider.apply(key);
+            }
+            if (json == null) {
+                return Optional.empty();
+            }
+
+            try {
+                return Optional.of((ObjectNode) jsonMapper.readTree(json));
+            } catch (JsonProcessingException | ClassCastException e) {
+                throw new IllegalArgumentException(key + ": invalid JSON definition", e);
+            }
+        }).map(ObjectNode::deepCopy).orElse(null);
+    }
+
+    /**
+     * Get the names of the Camel models of the catalog
+     *
+     * @return the model names, as listed by the catalog
+     */
+    public List<String> getModelNames() {
+        return findNames(CamelCatalog::findModelNames);
+    }
+
+    /**
+     * Get the names of the components of the catalog
+     *
+     * @return the component names, as listed by the catalog
+     */
+    public List<String> getComponentNames() {
+        return findNames(CamelCatalog::findComponentNames);
+    }
+
+    /**
+     * Get the names of the data formats of the catalog
+     *
+     * @return the data format names, as listed by the catalog
+     */
+    public List<String> getDataFormatNames() {
+        return findNames(CamelCatalog::findDataFormatNames);
+    }
+
+    /**
+     * Get the names of the languages of the catalog
+     *
+     * @return the language names, as listed by the catalog
+     */
+    public List<String> getLanguageNames() {
+        return findNames(CamelCatalog::findLanguageNames);
+    }
+
+    private List<String> findNames(Function<CamelCatalog, List<String>> namesProvider) {
+        synchronized (camelCatalog) {
+            return List.copyOf(namesProvider.apply(camelCatalog));
+        }
+    }
+}
@@ -24,17 +24,34 @@ import org.apache.camel.tooling.model.*;
 
 import java.math.BigDecimal;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
+/**
+ * Enhance the JSON schemas with the information of the Camel catalog.
+ * <p>
+ * An enhancer can be shared by generators running concurrently: the Camel models are only read, and the derived
+ * comparators and option indexes are cached in concurrent maps.
+ */
 public class CamelCatalogSchemaEnhancer {
 
-    private final CamelCatalog camelCatalog;
-    private final Map<String, String> JAVA_TYPE_TO_MODEL_NAME = new HashMap<>();
-    private final Map<String, String> MODEL_NAME_TO_JAVA_TYPE = new HashMap<>();
-    ObjectMapper jsonMapper = new ObjectMapper();
+    private final CamelCatalogModelRegistry modelRegistry;
+    private final Map<String, CamelYamlDSLKeysComparator> keysComparators = new ConcurrentHashMap<>();
+    private final Map<String, ModelOptionsIndex> modelOptionsIndexes = new ConcurrentHashMap<>();
+    final ObjectMapper jsonMapper = new ObjectMapper();
 
     public CamelCatalogSchemaEnhancer(CamelCatalog camelCatalog) {
-        this.camelCatalog = camelCatalog;
-        populateJavaTypeToModelNameMap();
+        this(new CamelCatalogModelRegistry(camelCatalog));
+    }
+
+    /**
+     * @param modelRegistry the model registry of the catalog, it can be shared with other enhancers
+     */
+    public CamelCatalogSchemaEnhancer(CamelCatalogModelRegistry modelRegistry) {
+        this.modelRegistry = modelRegistry;
+    }
+
+    CamelCatalogModelRegistry getModelRegistry() {
+        return modelRegistry;
     }
 
     /**
@@ -77,7 +94,7 @@ public class CamelCatalogSchemaEnhancer {
      * @param modelNode the JSON schema node of the model
      */
     void fillRequiredPropertiesIfNeeded(Kind modelKind, String modelName, ObjectNode modelNode) {
-        BaseModel<? extends BaseOptionModel> model = camelCatalog.model(modelKind, modelName);
+        BaseModel<? extends BaseOptionModel> model = modelRegistry.getModel(modelKind, modelName);
         if (model == null) {
             return;
         }
@@ -93,23 +110,21 @@ public class CamelCatalogSchemaEnhancer {
      */
     void fillRequiredPropertiesIfNeeded(BaseModel<? extends BaseOptionModel> model, ObjectNode modelNode) {
         ArrayList<String> requiredProperties = new ArrayList<>();
+        Set<String> requiredPropertyNames = new HashSet<>();
 
         if (modelNode.has("required")) {
             modelNode.get("required").elements().forEachRemaining(node -> {
                 requiredProperties.add(node.asText());
+                requiredPropertyNames.add(node.asText());
             });
         }
 
-        List<? extends BaseOptionModel> modelOptions = (model instanceof ComponentModel)
-                ? ((ComponentModel) model).getEndpointOptions()
-                : model.getOptions();
-
-        modelOptions.forEach(option -> {
-            if (option.isRequired() && modelNode.has("properties")
-                    && modelNode.get("properties").has(option.getName())
-                    && !modelNode.get("properties").get(option.getName()).isEmpty()
-                    && !requiredProperties.contains(option.getName())) {
-                requiredProperties.add(option.getName());
+        getModelOptionsIndex(model).requiredOptionNames().forEach(optionName -> {
+            if (modelNode.has("properties")
+                    && modelNode.get("properties").has(optionName)
+                    && !modelNode.get("properties").get(optionName).isEmpty()
+                    && requiredPropertyNames.add(optionName)) {
+                requiredProperties.add(optionName);
             }
         });
 
@@ -126,7 +141,7 @@ public class CamelCatalogSchemaEnhancer {
      * @param modelNode the JSON schema node of the model
      */
     void sortPropertiesAccordingToCatalog(String modelName, ObjectNode modelNode) {
-        EipModel model = camelCatalog.eipModel(modelName);
+        EipModel model = modelRegistry.getEipModel(modelName);
         if (model == null) {
             return;
         }
@@ -142,8 +157,7 @@ public class CamelCatalogSchemaEnhancer {
      */
     void sortPropertiesAccordingToCatalog(EipModel model, ObjectNode modelNode) {
         var modelNodeProperties = modelNode.withObject("/properties").properties().stream()
-                .map(Map.Entry::getKey).sorted(
-                        new CamelYamlDSLKeysComparator(model.getOptions()))
+                .map(Map.Entry::getKey).sorted(getKeysComparator(model))
                 .toList();
         var sortedSchemaProperties = jsonMapper.createObjectNode();
 
@@ -155,6 +169,17 @@ public class CamelCatalogSchemaEnhancer {
         modelNode.set("properties", sortedSchemaProperties);
     }
 
+    /**
+     * Get the keys comparator of the model, the same model being sorted for every EIP or entity that references it
+     *
+     * @param model the Camel model
+     * @return the keys comparator, cached by model name
+     */
+    private CamelYamlDSLKeysComparator getKeysComparator(EipModel model) {
+        return keysComparators.computeIfAbsent(model.getName(),
+                modelName -> new CamelYamlDSLKeysComparator(model.getOptions()));
+    }
+
     /**
      * Fill the group/label information of the model in the schema
      *
@@ -162,7 +187,7 @@ public class CamelCatalogSchemaEnhancer {
      * @param modelNode the JSON schema node of the model
      */
     void fillPropertiesInformation(String modelName, ObjectNode modelNode) {
-        EipModel model = camelCatalog.eipModel(modelName);
+        EipModel model = modelRegistry.getEipModel(modelName);
         if (model == null) {
             return;
         }
@@ -177,7 +202,7 @@ public class CamelCatalogSchemaEnhancer {
      * @param modelNode the JSON schema node of the model
      */
     void fillPropertiesInformation(BaseModel<? extends BaseOptionModel> model, ObjectNode modelNode) {
-        List<? extends BaseOptionModel> modelOptions = model.getOptions();
+        Map<String, BaseOptionModel> modelOptions = getModelOptionsIndex(model).optionsByName();
 
         modelNode.withObject("properties").fields().forEachRemaining(entry -> {
             String propertyName = entry.getKey();
@@ -186,16 +211,27 @@ public class CamelCatalogSchemaEnhancer {
                 return;
             }
 
-            Optional<? extends BaseOptionModel> modelOption =
-                    modelOptions.stream().filter(option -> option.getName().equals(propertyName)).findFirst();
-            if (modelOption.isEmpty()) {
+            BaseOptionModel modelOption = modelOptions.get(propertyName);
+            if (modelOption == null) {
                 return;
             }
 
-            fillPropertyInformation(modelOption.get(), propertyNode);
+            fillPropertyInformation(modelOption, propertyNode);
         });
     }
 
+    /**
+     * Get the options index of the model, built once per model as the same definitions are enhanced for every EIP
+     * or entity that references them
+     *
+     * @param model the Camel model
+     * @return the options index, cached by model kind and name
+     */
+    private ModelOptionsIndex getModelOptionsIndex(BaseModel<? extends BaseOptionModel> model) {
+        return modelOptionsIndexes.computeIfAbsent(model.getKind() + ":" + model.getName(),
+                key -> ModelOptionsIndex.of(model));
+    }
+
     /**
      * Fill the group/label/format/deprecated/default information of the model in the property
      *
@@ -229,19 +265,11 @@ public class CamelCatalogSchemaEnhancer {
      * @return the Camel model
      */
     EipModel getCamelModelByJavaType(String javaType) {
-        return camelCatalog.eipModel(JAVA_TYPE_TO_MODEL_NAME.get(javaType));
+        return modelRegistry.getEipModelByJavaType(javaType);
     }
 
     String getJavaTypeByModelName(String modelName) {
-        String javaType = MODEL_NAME_TO_JAVA_TYPE.get(modelName);
-        if (javaType == null) {
-            EipModel model = camelCatalog.eipModel(modelName);
-            if (model != null) {
-                javaType = model.getJavaType();
-                MODEL_NAME_TO_JAVA_TYPE.put(modelName, javaType);
-            }
-        }
-        return javaType;
+        return modelRegistry.getJavaTypeByModelName(modelName);
     }
 
     /**
@@ -357,19 +385,6 @@ public class CamelCatalogSchemaEnhancer {
         });
     }
 
-    /**
-     * Populate the JavaType to ModelName map
-     */
-    private void populateJavaTypeToModelNameMap() {
-        camelCatalog.findModelNames().forEach(modelName -> {
-            EipModel model = camelCatalog.eipModel(modelName);
-            if (model != null) {
-                JAVA_TYPE_TO_MODEL_NAME.put(model.getJavaType(), modelName);
-                MODEL_NAME_TO_JAVA_TYPE.put(modelName, model.getJavaType());
-            }
-        });
-    }
-
     private void addGroupInfo(BaseOptionModel modelOption, ObjectNode propertyNode) {
         String group =
                 modelOption.getGroup() != null ? modelOption.getGroup() : modelOption.getLabel();
@@ -447,4 +462,25 @@ public class CamelCatalogSchemaEnhancer {
             }
         }
     }
+
+    /**
+     * The options of a model indexed by name, keeping the first option of a given name, and the names of its
+     * required options, in the model order. For components, the required options are the endpoint options.
+     */
+    private record ModelOptionsIndex(Map<String, BaseOptionModel> optionsByName, Set<String> requiredOptionNames) {
+        static ModelOptionsIndex of(BaseModel<? extends BaseOptionModel> model) {
+            Map<String, BaseOptionModel> optionsByName = new HashMap<>();
+            model.getOptions().forEach(option -> optionsByName.putIfAbsent(option.getName(), option));
+
+            List<? extends BaseOptionModel> requiredOptions = (model instanceof ComponentModel)
+                    ? ((ComponentModel) model).getEndpointOptions()
+                    : model.getOptions();
+            Set<String> requiredOptionNames = new LinkedHashSet<>();
+            requiredOptions.stream().filter(BaseOptionModel::isRequired)
+                    .forEach(option -> requiredOptionNames.add(option.getName()));
+
+            return new ModelOptionsIndex(Collections.unmodifiableMap(optionsByName),
+                    Collections.unmodifiableSet(requiredOptionNames));
+        }
+    }
 }
@@ -1,18 +1,56 @@
 package io.kaoto.camelcatalog.generators;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Read the JSON schemas of the EIPs and entities from the Camel YAML DSL schema.
+ * <p>
+ * The Camel YAML DSL schema is never modified, every returned schema being built from copies, so the reader can be
+ * used from several threads and the schema can be shared with other readers.
+ */
 public class CamelYAMLSchemaReader {
 
+    private static final String DEFINITIONS_REF_PREFIX = "#/items/definitions/";
     private final SchemaPropertyFilter schemaPropertyFilter = new SchemaPropertyFilter();
+    private final Map<String, ObjectNode> definitionsIndex = new HashMap<>();
+    private final Map<String, Optional<InlinedDefinition>> inlinedDefinitions = new ConcurrentHashMap<>();
+    private final Map<String, List<InlinedDefinition>> definitionsClosures = new ConcurrentHashMap<>();
     ObjectMapper jsonMapper = new ObjectMapper();
     ObjectNode camelYamlSchemaNode;
 
     public CamelYAMLSchemaReader(ObjectNode camelYamlSchemaNode) throws JsonProcessingException {
         this.camelYamlSchemaNode = camelYamlSchemaNode;
+        indexDefinitions();
+    }
+
+    /**
+     * Index the definitions under #/items/definitions by name, so the $ref pointing to them are resolved without
+     * walking the schema
+     */
+    private void indexDefinitions() {
+        var items = camelYamlSchemaNode.get("items");
+        var definitions = items == null ? null : items.get("definitions");
+        if (definitions == null || !definitions.isObject()) {
+            return;
+        }
+
+        definitions.properties().forEach(entry -> {
+            if (entry.getValue().isObject()) {
+                definitionsIndex.put(entry.getKey(), (ObjectNode) entry.getValue());
+            }
+        });
     }
 
     /**
@@ -48,8 +86,7 @@ public class CamelYAMLSchemaReader {
     public ObjectNode getEIPJSONSchema(String eipName, String javaType) {
         var eipJsonSchema = (ObjectNode) camelYamlSchemaNode.get("items")
                 .get("definitions")
-                .get(javaType)
-                .deepCopy();
+                .get(javaType);
         return processNodeSchemaObject(eipName, eipJsonSchema);
     }
 
@@ -81,17 +118,19 @@ public class CamelYAMLSchemaReader {
             return null;
         }
 
-        var resolvedNode = getResolvedNode(processorNodeRef);
-        return this.processNodeSchemaObject(processorName, resolvedNode);
+        var definition = findDefinition(processorNodeRef.get("$ref").asText());
+        return definition == null ? null : this.processNodeSchemaObject(processorName, definition);
 
     }
 
-    private ObjectNode processNodeSchemaObject(String processorName, ObjectNode schemaNode) {
+    /*
+     * The source schema is only read: the property filter hands over the copy that is then completed
+     */
+    private ObjectNode processNodeSchemaObject(String processorName, ObjectNode sourceSchemaNode) {
         var processorSchemaNode = jsonMapper.createObjectNode();
         var processorSchemaDefinitionsNode = jsonMapper.createObjectNode();
 
-        schemaPropertyFilter.schemaPropertyFilter(processorName, schemaNode);
-        processorSchemaNode.setAll(schemaNode);
+        processorSchemaNode.setAll(schemaPropertyFilter.filter(processorName, sourceSchemaNode));
 
         inlineDefinitions(processorSchemaNode, processorSchemaDefinitionsNode);
         if (!processorSchemaDefinitionsNode.isEmpty()) {
@@ -103,32 +142,52 @@ public class CamelYAMLSchemaReader {
 
     /**
      * Resolve the initial $ref
-     * Given a node, resolve the initial $ref and return the resolved node
+     * Given a node, resolve the initial $ref and return the resolved node.
+     * Only the referenced definition is copied, so the caller can modify it without altering the schema.
      *
      * @param node the node to resolve the initial $ref
-     * @return the resolved node
+     * @return a copy of the resolved node
      */
     ObjectNode getResolvedNode(ObjectNode node) {
         if (node.has("$ref")) {
-            String ref = node.get("$ref").asText();
-            String[] refPath = ref.split("/");
-
-            var definition = camelYamlSchemaNode.deepCopy();
-            ObjectNode currentNode = definition;
-            for (String path : refPath) {
-                if (path.equals("#")) {
-                    currentNode = definition;
-                } else if (!path.isEmpty()) {
-                    currentNode = (ObjectNode) currentNode.get(path);
-                }
-            }
-
-            return currentNode;
+            ObjectNode definition = findDefinition(node.get("$ref").asText());
+            return definition == null ? null : definition.deepCopy();
         }
 
         return node;
     }
 
+    /**
+     * Find the definition a $ref points to
+     *
+     * @param ref the $ref, e.g. "#/items/definitions/org.apache.camel.model.ToDefinition"
+     * @return the definition in the Camel YAML DSL schema, which must not be modified
+     */
+    private ObjectNode findDefinition(String ref) {
+        ObjectNode definition = null;
+        if (ref.startsWith(DEFINITIONS_REF_PREFIX)) {
+            definition = definitionsIndex.get(ref.substring(DEFINITIONS_REF_PREFIX.length()));
+        }
+        if (definition == null) {
+            definition = findNode(ref);
+        }
+
+        return definition;
+    }
+
+    private ObjectNode findNode(String ref) {
+        JsonNode currentNode = camelYamlSchemaNode;
+        for (String path : ref.split("/")) {
+            if (path.equals("#")) {
+                currentNode = camelYamlSchemaNode;
+            } else if (!path.isEmpty()) {
+                currentNode = currentNode.get(path);
+            }
+        }
+
+        return (ObjectNode) currentNode;
+    }
+
     /**
      * Inline all the definitions
      * Given a node, inline the required definitions from the Camel YAML DSL schema if needed.
@@ -146,14 +205,36 @@ public class CamelYAMLSchemaReader {
      * "name": {
      * "type": "string"
      * }
+     * The definitions are added in the same order as a depth-first walk of the references, using the memoized
+     * closure of each referenced definition.
      *
      * @param node the node to inline the required definitions from the Camel YAML DSL schema
      */
     void inlineDefinitions(ObjectNode node, ObjectNode definitions) {
+        List<String> references = new ArrayList<>();
+        relocateReferences(node, references);
+
+        for (String reference : references) {
+            for (InlinedDefinition inlinedDefinition : getDefinitionsClosure(reference)) {
+                if (!definitions.has(inlinedDefinition.name())) {
+                    definitions.set(inlinedDefinition.name(), inlinedDefinition.schema().deepCopy());
+                }
+            }
+        }
+    }
+
+    /**
+     * Relocate the $ref of a node from #/items/definitions to #/definitions and collect them, in the order they are
+     * found.
+     *
+     * @param node       the node to relocate
+     * @param references the list collecting the original $ref
+     */
+    void relocateReferences(ObjectNode node, List<String> references) {
         if (node.has("type") && "array".equals(node.get("type").asText()) && node.has("items")) {
             var items = (ObjectNode) node.get("items");
             if (items.has("$ref")) {
-                addRefDefinition(items, definitions);
+                relocateReference(items, references);
             }
         }
 
@@ -162,16 +243,16 @@ public class CamelYAMLSchemaReader {
             properties.fields().forEachRemaining(entry -> {
                 var property = (ObjectNode) entry.getValue();
                 if (property.has("$ref")) {
-                    addRefDefinition(property, definitions);
+                    relocateReference(property, references);
                 } else if (property.has("items") && property.get("items").has("$ref") && !entry.getKey().equals("steps")) {
                     var refParent = (ObjectNode) property.get("items");
-                    addRefDefinition(refParent, definitions);
+                    relocateReference(refParent, references);
                 }
             });
         }
 
-        inlineArrayFields(node, "anyOf", definitions);
-        inlineArrayFields(node, "oneOf", definitions);
+        relocateArrayFields(node, "anyOf", references);
+        relocateArrayFields(node, "oneOf", references);
         removeSimpleStringSchemaFromOneOf(node);
     }
 
@@ -202,13 +283,13 @@ public class CamelYAMLSchemaReader {
     }
 
     /**
-     * Inline the definitions from an array field
+     * Relocate the references from an array field
      *
-     * @param node        the node to inline the required array field definitions from
-     * @param arrayName   the name of the array field, it could be `anyOf` or `oneOf`
-     * @param definitions the definitions node to add the inlined definitions
+     * @param node       the node to relocate the array field references from
+     * @param arrayName  the name of the array field, it could be `anyOf` or `oneOf`
+     * @param references the list collecting the original $ref
      */
-    void inlineArrayFields(ObjectNode node, String arrayName, ObjectNode definitions) {
+    void relocateArrayFields(ObjectNode node, String arrayName, List<String> references) {
         if (!node.has(arrayName)) return;
 
         var array = (ArrayNode) node.get(arrayName);
@@ -216,38 +297,77 @@ public class CamelYAMLSchemaReader {
             if (element.isObject()) {
                 var elementNode = (ObjectNode) element;
                 if (elementNode.has("$ref")) {
-                    addRefDefinition(elementNode, definitions);
+                    relocateReference(elementNode, references);
                 } else {
                     // Recursively process nested objects in the array element
-                    inlineDefinitions(elementNode, definitions);
+                    relocateReferences(elementNode, references);
                 }
             }
         });
     }
 
     /**
-     * Add the definition from a $ref
-     * Given a node with a $ref, add the definition to the definitions node
-     * and relocate the $ref from #/items/definitions to #/definitions
+     * Relocate the $ref from #/items/definitions to #/definitions
      *
-     * @param refParent   the node with a $ref
-     * @param definitions the definitions node to add the definition
+     * @param refParent  the node with a $ref
+     * @param references the list collecting the original $ref
      */
-    void addRefDefinition(ObjectNode refParent, ObjectNode definitions) {
+    private void relocateReference(ObjectNode refParent, List<String> references) {
         /* ref: #/items/definitions/org.apache.camel.model.ToDefinition */
         String refKey = refParent.get("$ref").asText();
+        references.add(refKey);
 
-        /* newRefKey: org.apache.camel.model.ToDefinition */
-        String newRefKey = refKey.replace("#/items/definitions/", "");
+        String newRefLocation = refKey.replace(DEFINITIONS_REF_PREFIX, "#/definitions/");
+        refParent.put("$ref", newRefLocation);
+    }
 
-        if (!definitions.has(newRefKey)) {
-            var resolvedNode = getResolvedNode(refParent);
-            definitions.set(newRefKey, resolvedNode);
-            inlineDefinitions(resolvedNode, definitions);
+    /**
+     * Get the definitions reachable from a $ref, including the referenced definition itself, in depth-first order.
+     * The closure is computed once per definition, cycles are cut when a definition is visited again.
+     *
+     * @param ref the $ref of the root definition
+     * @return the ordered definitions to inline
+     */
+    List<InlinedDefinition> getDefinitionsClosure(String ref) {
+        return definitionsClosures.computeIfAbsent(getDefinitionName(ref), definitionName -> {
+            var visitedDefinitions = new LinkedHashMap<String, InlinedDefinition>();
+            collectDefinitions(ref, visitedDefinitions);
+            return List.copyOf(visitedDefinitions.values());
+        });
+    }
+
+    private void collectDefinitions(String ref, Map<String, InlinedDefinition> visitedDefinitions) {
+        var inlinedDefinition = getInlinedDefinition(ref);
+        if (inlinedDefinition == null || visitedDefinitions.containsKey(inlinedDefinition.name())) {
+            return;
         }
 
-        /* Relocating the $ref from #/items/definitions to #/definitions */
-        String newRefLocation = refKey.replace("#/items/definitions/", "#/definitions/");
-        refParent.put("$ref", newRefLocation);
+        visitedDefinitions.put(inlinedDefinition.name(), inlinedDefinition);
+        inlinedDefinition.references().forEach(reference -> collectDefinitions(reference, visitedDefinitions));
+    }
+
+    /*
+     * The inlined form of a definition doesn't depend on the schema it is inlined into, so it is prepared only once:
+     * a copy of the definition with its references relocated, along with the references it contains.
+     */
+    private InlinedDefinition getInlinedDefinition(String ref) {
+        return inlinedDefinitions.computeIfAbsent(getDefinitionName(ref), definitionName -> {
+            var resolvedNode = getResolvedNode(jsonMapper.createObjectNode().put("$ref", ref));
+            if (resolvedNode == null) {
+                return Optional.empty();
+            }
+
+            List<String> references = new ArrayList<>();
+            relocateReferences(resolvedNode, references);
+            return Optional.of(new InlinedDefinition(definitionName, resolvedNode, List.copyOf(references)));
+        }).orElse(null);
+    }
+
+    private static String getDefinitionName(String ref) {
+        /* org.apache.camel.model.ToDefinition */
+        return ref.replace(DEFINITIONS_REF_PREFIX, "");
+    }
+
+    record InlinedDefinition(String name, ObjectNode schema, List<String> references) {
     }
 }
@@ -15,7 +15,6 @@
  */
 package io.kaoto.camelcatalog.generators;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.node.ObjectNode;
@@ -23,9 +22,9 @@ import io.kaoto.camelcatalog.model.CatalogRuntime;
 import org.apache.camel.catalog.CamelCatalog;
 import org.apache.camel.tooling.model.Kind;
 
-import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -34,39 +33,72 @@ public class ComponentGenerator implements Generator {
     CamelCatalog camelCatalog;
     CatalogRuntime runtime;
     CamelCatalogSchemaEnhancer camelCatalogSchemaEnhancer;
+    CamelCatalogModelRegistry camelCatalogModelRegistry;
+    ForkJoinPool forkJoinPool;
     ObjectMapper jsonMapper = new ObjectMapper()
             .configure(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS, true);
 
     public ComponentGenerator(CamelCatalog camelCatalog, CatalogRuntime runtime) {
+        this(camelCatalog, runtime, new CamelCatalogSchemaEnhancer(camelCatalog));
+    }
+
+    /**
+     * @param camelCatalog               the Camel catalog
+     * @param runtime                    the runtime of the catalog
+     * @param camelCatalogSchemaEnhancer the schema enhancer of the catalog, it can be shared with other generators
+     */
+    public ComponentGenerator(CamelCatalog camelCatalog, CatalogRuntime runtime,
+                              CamelCatalogSchemaEnhancer camelCatalogSchemaEnhancer) {
         this.camelCatalog = camelCatalog;
         this.runtime = runtime;
-        this.camelCatalogSchemaEnhancer = new CamelCatalogSchemaEnhancer(camelCatalog);
+        this.camelCatalogSchemaEnhancer = camelCatalogSchemaEnhancer;
+        this.camelCatalogModelRegistry = camelCatalogSchemaEnhancer.getModelRegistry();
     }
 
     /**
      * Generate the Components map
+     * <p>
+     * When a fork/join pool is set, the components are built in parallel on it, and are still returned in the same,
+     * sorted, order.
      *
      * @return the map of Components with the Component name as the key and the JSON model
      * containing the camel JSON model and the JSON schema
      */
     @Override
     public Map<String, ObjectNode> generate() {
-        Map<String, ObjectNode> componentMap = new LinkedHashMap<>();
+        return GenerationTasks.generateInOrder(getComponentNames(), this::generateComponent, forkJoinPool);
+    }
+
+    public ForkJoinPool getForkJoinPool() {
+        return forkJoinPool;
+    }
+
+    /**
+     * @param forkJoinPool the pool to build the components in parallel on, or {@code null} to build them one at a time
+     */
+    public void setForkJoinPool(ForkJoinPool forkJoinPool) {
+        this.forkJoinPool = forkJoinPool;
+    }
 
-        getComponentNames().forEach(name -> {
-            var componentJson = getComponentJson(name);
-            if (componentJson != null) {
-                var componentJSONSchema = getComponentJSONSchema(name);
-                componentJson.set("propertiesSchema", componentJSONSchema);
+    /**
+     * Build the JSON model of a Component, including its JSON schema
+     *
+     * @param componentName the name of the Component
+     * @return the JSON model of the Component, or {@code null} if the catalog doesn't have it
+     */
+    private ObjectNode generateComponent(String componentName) {
+        var componentJson = getComponentJson(componentName);
+        if (componentJson == null) {
+            return null;
+        }
 
-                camelCatalogSchemaEnhancer.fillSchemaInformation(componentJSONSchema);
-                camelCatalogSchemaEnhancer.fillRequiredPropertiesIfNeeded(Kind.component, name, componentJSONSchema);
+        var componentJSONSchema = getComponentJSONSchema(componentName);
+        componentJson.set("propertiesSchema", componentJSONSchema);
 
-                componentMap.put(name, componentJson);
-            }
-        });
+        camelCatalogSchemaEnhancer.fillSchemaInformation(componentJSONSchema);
+        camelCatalogSchemaEnhancer.fillRequiredPropertiesIfNeeded(Kind.component, componentName, componentJSONSchema);
 
-        return componentMap;
+        return componentJson;
     }
 
     /**
@@ -75,7 +107,7 @@ public class ComponentGenerator implements Generator {
      * @return the list of Component names
      */
     private List<String> getComponentNames() {
-        return camelCatalog.findComponentNames().stream().filter(component -> !component.isEmpty()).sorted().toList();
+        return camelCatalogModelRegistry.getComponentNames().stream().filter(component -> !component.isEmpty()).sorted().toList();
     }
 
     /**
@@ -85,11 +117,12 @@ public class ComponentGenerator implements Generator {
      * @return the JSON model of the Component including its properties
      */
     ObjectNode getComponentJson(String componentName) {
-        String componentJson = camelCatalog.componentJSonSchema(componentName);
-
         try {
             /* The rootComponentDefinition object contains the component definition and its properties */
-            ObjectNode rootComponentDefinition = (ObjectNode) jsonMapper.readTree(componentJson);
+            ObjectNode rootComponentDefinition = camelCatalogModelRegistry.getComponentJson(componentName);
+            if (rootComponentDefinition == null) {
+                throw new IllegalArgumentException(componentName + ": component definition not found");
+            }
             ObjectNode componentDefinition = rootComponentDefinition.withObject("component");
             String componentVersion = componentDefinition.get("version").asText();
 
@@ -98,7 +131,7 @@ public class ComponentGenerator implements Generator {
              * version from the debug model and combine it with the component version
              */
             if (runtime == CatalogRuntime.Quarkus) {
-                String camelVersion = camelCatalog.model(Kind.other, "debug").getMetadata()
+                String camelVersion = camelCatalogModelRegistry.getModel(Kind.other, "debug").getMetadata()
                         .get("camelVersion").toString();
                 componentVersion = String.format("%s (CEQ %s)", camelVersion, componentVersion);
                 componentDefinition.put("version", componentVersion);
@@ -108,7 +141,7 @@ public class ComponentGenerator implements Generator {
             }
 
             return rootComponentDefinition;
-        } catch (IllegalArgumentException | JsonProcessingException e) {
+        } catch (IllegalArgumentException e) {
             LOGGER.log(Level.WARNING, componentName + ": component definition not found in the catalog");
         }
 
@@ -124,7 +157,7 @@ public class ComponentGenerator implements Generator {
     ObjectNode getComponentJSONSchema(String componentName) {
         var componentSchemaNode = jsonMapper.createObjectNode();
         var answerProperties = componentSchemaNode.withObject("/properties");
-        var modelOptions = camelCatalog.componentModel(componentName).getEndpointOptions();
+        var modelOptions = camelCatalogModelRegistry.getComponentModel(componentName).getEndpointOptions();
         for (var modelOption : modelOptions) {
             var propertyName = modelOption.getName();
             var propertyNode = answerProperties.withObject("/" + propertyName);
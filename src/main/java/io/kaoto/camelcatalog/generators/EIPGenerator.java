@@ -27,6 +27,7 @@ import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.BiConsumer;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -35,25 +36,50 @@ public class EIPGenerator implements Generator {
     private static final Logger LOGGER = Logger.getLogger(EIPGenerator.class.getName());
     CamelCatalog camelCatalog;
     CamelCatalogSchemaEnhancer camelCatalogSchemaEnhancer;
-    String camelYamlSchema;
+    CamelCatalogModelRegistry camelCatalogModelRegistry;
     Map<String, String> kaotoPatterns;
     ObjectMapper jsonMapper = new ObjectMapper()
             .configure(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS, true);
     ObjectNode camelYamlSchemaNode;
     CamelYAMLSchemaReader camelYAMLSchemaReader;
+    ForkJoinPool forkJoinPool;
 
     public EIPGenerator(CamelCatalog camelCatalog, String camelYamlSchema, Map<String, String> kaotoPatterns)
             throws JsonProcessingException {
+        this(camelCatalog, (ObjectNode) new ObjectMapper().readTree(camelYamlSchema), kaotoPatterns);
+    }
+
+    /**
+     * @param camelCatalog        the Camel catalog
+     * @param camelYamlSchemaNode the parsed Camel YAML DSL schema, it is only read, so it can be shared
+     * @param kaotoPatterns       the Kaoto specific patterns
+     */
+    public EIPGenerator(CamelCatalog camelCatalog, ObjectNode camelYamlSchemaNode, Map<String, String> kaotoPatterns)
+            throws JsonProcessingException {
+        this(camelCatalog, camelYamlSchemaNode, kaotoPatterns, new CamelCatalogSchemaEnhancer(camelCatalog));
+    }
+
+    /**
+     * @param camelCatalog               the Camel catalog
+     * @param camelYamlSchemaNode        the parsed Camel YAML DSL schema, it is only read, so it can be shared
+     * @param kaotoPatterns              the Kaoto specific patterns
+     * @param camelCatalogSchemaEnhancer the schema enhancer of the catalog, it can be shared with other generators
+     */
+    public EIPGenerator(CamelCatalog camelCatalog, ObjectNode camelYamlSchemaNode, Map<String, String> kaotoPatterns,
+                        CamelCatalogSchemaEnhancer camelCatalogSchemaEnhancer) throws JsonProcessingException {
         this.camelCatalog = camelCatalog;
-        this.camelCatalogSchemaEnhancer = new CamelCatalogSchemaEnhancer(camelCatalog);
-        this.camelYamlSchema = camelYamlSchema;
+        this.camelCatalogSchemaEnhancer = camelCatalogSchemaEnhancer;
+        this.camelCatalogModelRegistry = camelCatalogSchemaEnhancer.getModelRegistry();
         this.kaotoPatterns = kaotoPatterns;
-        this.camelYamlSchemaNode = (ObjectNode) jsonMapper.readTree(camelYamlSchema);
+        this.camelYamlSchemaNode = camelYamlSchemaNode;
         this.camelYAMLSchemaReader = new CamelYAMLSchemaReader(camelYamlSchemaNode);
     }
 
     /**
      * Generate the EIPs map
+     * <p>
+     * When a fork/join pool is set, the EIPs and REST processors are built in parallel on it, and are still returned
+     * in the same order.
      *
      * @return the map of EIPs with the EIP name as the key and the JSON model
      * containing the camel JSON model and the JSON schema from the Camel YAML schema
@@ -61,30 +87,9 @@ public class EIPGenerator implements Generator {
     public Map<String, ObjectNode> generate() {
         Map<String, ObjectNode> processorMap = new LinkedHashMap<>();
 
-        getEIPNames().forEach(eipName -> {
-            var processorJSON = getModelJson(eipName);
-            setProvider(processorJSON);
-            if (processorJSON != null) {
-                String javaType = camelCatalogSchemaEnhancer.getJavaTypeByModelName(eipName);
-                var processorJSONSchema = camelYAMLSchemaReader.getEIPJSONSchema(eipName, javaType);
-                processorJSON.set("propertiesSchema", processorJSONSchema);
-
-                enhanceJSONSchema(eipName, processorJSONSchema);
-                processorMap.put(eipName, processorJSON);
-            }
-        });
-
-        getRestProcessorNames().forEach(processorName -> {
-            var processorJSON = getModelJson(processorName);
-            setProvider(processorJSON);
-            if (processorJSON != null) {
-                var processorJSONSchema = camelYAMLSchemaReader.getRestProcessorJSONSchema(processorName);
-                processorJSON.set("propertiesSchema", processorJSONSchema);
-
-                enhanceJSONSchema(processorName, processorJSONSchema);
-                processorMap.put(processorName, processorJSON);
-            }
-        });
+        processorMap.putAll(GenerationTasks.generateInOrder(getEIPNames(), this::generateEIP, forkJoinPool));
+        processorMap.putAll(GenerationTasks.generateInOrder(getRestProcessorNames(), this::generateRestProcessor,
+                forkJoinPool));
 
         // Add Kaoto custom patterns schemas
         for (var kaotoPatternEntry : kaotoPatterns.entrySet()) {
@@ -102,6 +107,46 @@ public class EIPGenerator implements Generator {
         return processorMap;
     }
 
+    public ForkJoinPool getForkJoinPool() {
+        return forkJoinPool;
+    }
+
+    /**
+     * @param forkJoinPool the pool to build the EIPs in parallel on, or {@code null} to build them one at a time
+     */
+    public void setForkJoinPool(ForkJoinPool forkJoinPool) {
+        this.forkJoinPool = forkJoinPool;
+    }
+
+    private ObjectNode generateEIP(String eipName) {
+        var processorJSON = getModelJson(eipName);
+        setProvider(processorJSON);
+        if (processorJSON == null) {
+            return null;
+        }
+
+        String javaType = camelCatalogSchemaEnhancer.getJavaTypeByModelName(eipName);
+        var processorJSONSchema = camelYAMLSchemaReader.getEIPJSONSchema(eipName, javaType);
+        processorJSON.set("propertiesSchema", processorJSONSchema);
+
+        enhanceJSONSchema(eipName, processorJSONSchema);
+        return processorJSON;
+    }
+
+    private ObjectNode generateRestProcessor(String processorName) {
+        var processorJSON = getModelJson(processorName);
+        setProvider(processorJSON);
+        if (processorJSON == null) {
+            return null;
+        }
+
+        var processorJSONSchema = camelYAMLSchemaReader.getRestProcessorJSONSchema(processorName);
+        processorJSON.set("propertiesSchema", processorJSONSchema);
+
+        enhanceJSONSchema(processorName, processorJSONSchema);
+        return processorJSON;
+    }
+
     /**
      * Enhance the Processor JSON Schema
      */
@@ -174,11 +219,13 @@ public class EIPGenerator implements Generator {
      * @return the JSON model of the Processor including its properties
      */
     ObjectNode getModelJson(String modelName) {
-        String eipJson = camelCatalog.modelJSonSchema(modelName);
-
         try {
-            return (ObjectNode) jsonMapper.readTree(eipJson);
-        } catch (IllegalArgumentException | JsonProcessingException e) {
+            ObjectNode eipJson = camelCatalogModelRegistry.getModelJson(modelName);
+            if (eipJson == null) {
+                throw new IllegalArgumentException(modelName + ": model definition not found");
+            }
+            return eipJson;
+        } catch (IllegalArgumentException e) {
             LOGGER.log(Level.WARNING, modelName + ": model definition not found in the catalog");
         }
 
@@ -29,6 +29,7 @@ import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.BiConsumer;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -37,23 +38,52 @@ public class EntityGenerator implements Generator {
     private static final Logger LOGGER = Logger.getLogger(EntityGenerator.class.getName());
     CamelCatalog camelCatalog;
     CamelCatalogSchemaEnhancer camelCatalogSchemaEnhancer;
-    String camelYamlSchema;
+    CamelCatalogModelRegistry camelCatalogModelRegistry;
     ObjectMapper jsonMapper = new ObjectMapper()
             .configure(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS, true);
     ObjectNode camelYamlSchemaNode;
     CamelYAMLSchemaReader camelYAMLSchemaReader;
     ObjectNode openapiSpecNode;
     K8sSchemaReader k8sSchemaReader;
+    ForkJoinPool forkJoinPool;
     private final Map<String, String> localSchemas;
 
     public EntityGenerator(CamelCatalog camelCatalog,
                            String camelYamlSchema,
                            String openapiSpec,
                            Map<String, String> localSchemas) throws JsonProcessingException {
+        this(camelCatalog, (ObjectNode) new ObjectMapper().readTree(camelYamlSchema), openapiSpec, localSchemas);
+    }
+
+    /**
+     * @param camelCatalog        the Camel catalog
+     * @param camelYamlSchemaNode the parsed Camel YAML DSL schema, it is only read, so it can be shared
+     * @param openapiSpec         the Kubernetes OpenAPI specification
+     * @param localSchemas        the schemas bundled with the generator
+     */
+    public EntityGenerator(CamelCatalog camelCatalog,
+                           ObjectNode camelYamlSchemaNode,
+                           String openapiSpec,
+                           Map<String, String> localSchemas) throws JsonProcessingException {
+        this(camelCatalog, camelYamlSchemaNode, openapiSpec, localSchemas, new CamelCatalogSchemaEnhancer(camelCatalog));
+    }
+
+    /**
+     * @param camelCatalog               the Camel catalog
+     * @param camelYamlSchemaNode        the parsed Camel YAML DSL schema, it is only read, so it can be shared
+     * @param openapiSpec                the Kubernetes OpenAPI specification
+     * @param localSchemas               the schemas bundled with the generator
+     * @param camelCatalogSchemaEnhancer the schema enhancer of the catalog, it can be shared with other generators
+     */
+    public EntityGenerator(CamelCatalog camelCatalog,
+                           ObjectNode camelYamlSchemaNode,
+                           String openapiSpec,
+                           Map<String, String> localSchemas,
+                           CamelCatalogSchemaEnhancer camelCatalogSchemaEnhancer) throws JsonProcessingException {
         this.camelCatalog = camelCatalog;
-        this.camelCatalogSchemaEnhancer = new CamelCatalogSchemaEnhancer(camelCatalog);
-        this.camelYamlSchema = camelYamlSchema;
-        this.camelYamlSchemaNode = (ObjectNode) jsonMapper.readTree(camelYamlSchema);
+        this.camelCatalogSchemaEnhancer = camelCatalogSchemaEnhancer;
+        this.camelCatalogModelRegistry = camelCatalogSchemaEnhancer.getModelRegistry();
+        this.camelYamlSchemaNode = camelYamlSchemaNode;
         this.camelYAMLSchemaReader = new CamelYAMLSchemaReader(camelYamlSchemaNode);
         this.openapiSpecNode = (ObjectNode) jsonMapper.readTree(openapiSpec);
         this.k8sSchemaReader = new K8sSchemaReader(openapiSpecNode);
@@ -62,6 +92,9 @@ public class EntityGenerator implements Generator {
 
     /**
      * Generate the EIPs map
+     * <p>
+     * When a fork/join pool is set, the entities are built in parallel on it, and are still returned in the same
+     * order.
      *
      * @return the map of EIPs with the EIP name as the key and the JSON model
      * containing the camel JSON model and the JSON schema from the Camel YAML schema
@@ -69,16 +102,9 @@ public class EntityGenerator implements Generator {
     public Map<String, ObjectNode> generate() {
         Map<String, ObjectNode> entityMap = new LinkedHashMap<>();
 
-        getEntityNames().forEach(entityName -> {
-            ObjectNode entityJSON = getModelJson(entityName);
-            if (entityJSON != null) {
-                var processorJSONSchema = camelYAMLSchemaReader.getEntityJSONSchema(entityName);
-                entityJSON.set("propertiesSchema", processorJSONSchema);
-                enhanceJSONSchema(entityName, processorJSONSchema);
-
-                entityMap.put("beans".equals(entityName) ? "bean" : entityName, entityJSON);
-            }
-        });
+        GenerationTasks.generateInOrder(getEntityNames(), this::generateEntity, forkJoinPool)
+                .forEach((entityName, entityJSON) ->
+                        entityMap.put("beans".equals(entityName) ? "bean" : entityName, entityJSON));
 
         // Add ObjectMeta Schema
         var objectMetaJSON = k8sSchemaReader.getObjectMetaJSONSchema();
@@ -102,6 +128,30 @@ public class EntityGenerator implements Generator {
         return entityMap;
     }
 
+    public ForkJoinPool getForkJoinPool() {
+        return forkJoinPool;
+    }
+
+    /**
+     * @param forkJoinPool the pool to build the entities in parallel on, or {@code null} to build them one at a time
+     */
+    public void setForkJoinPool(ForkJoinPool forkJoinPool) {
+        this.forkJoinPool = forkJoinPool;
+    }
+
+    private ObjectNode generateEntity(String entityName) {
+        ObjectNode entityJSON = getModelJson(entityName);
+        if (entityJSON == null) {
+            return null;
+        }
+
+        var processorJSONSchema = camelYAMLSchemaReader.getEntityJSONSchema(entityName);
+        entityJSON.set("propertiesSchema", processorJSONSchema);
+        enhanceJSONSchema(entityName, processorJSONSchema);
+
+        return entityJSON;
+    }
+
     /**
      * Enhance the Processor JSON Schema
      */
@@ -155,16 +205,14 @@ public class EntityGenerator implements Generator {
      * @return the JSON model of the Entity including its properties
      */
     ObjectNode getModelJson(String modelName) {
-        String entityJson = null;
-        if ("beans".equals(modelName)) {
-            entityJson = camelCatalog.modelJSonSchema("beanFactory");
-        } else {
-            entityJson = camelCatalog.modelJSonSchema(modelName);
-        }
+        String entityName = "beans".equals(modelName) ? "beanFactory" : modelName;
 
         try {
             /* The rootEntityDefinition object contains the EIP definition and its properties */
-            ObjectNode rootEntityDefinition = (ObjectNode) jsonMapper.readTree(entityJson);
+            ObjectNode rootEntityDefinition = camelCatalogModelRegistry.getModelJson(entityName);
+            if (rootEntityDefinition == null) {
+                throw new IllegalArgumentException(entityName + ": model definition not found");
+            }
             ObjectNode modelDefinition = rootEntityDefinition.withObject("model");
             String modelVersion = camelCatalog.getLoadedVersion();
 
@@ -173,7 +221,7 @@ public class EntityGenerator implements Generator {
             }
 
             return rootEntityDefinition;
-        } catch (IllegalArgumentException | JsonProcessingException e) {
+        } catch (IllegalArgumentException e) {
             LOGGER.log(Level.WARNING, modelName + ": model definition not found in the catalog");
         }
 
@@ -22,6 +22,7 @@ import com.fasterxml.jackson.databind.node.ObjectNode;
 import io.kaoto.camelcatalog.maven.CamelCatalogVersionLoader;
 import io.kaoto.camelcatalog.model.KaotoFunction;
 import org.apache.camel.catalog.CamelCatalog;
+import org.apache.camel.tooling.model.Kind;
 import org.apache.camel.tooling.model.LanguageModel;
 
 import java.util.Comparator;
@@ -34,12 +35,21 @@ import java.util.stream.Collectors;
 public class FunctionsGenerator implements Generator {
     private static final Logger LOGGER = Logger.getLogger(FunctionsGenerator.class.getName());
     private final ObjectMapper jsonMapper;
-    private final CamelCatalog camelCatalog;
+    private final CamelCatalogModelRegistry camelCatalogModelRegistry;
     private final CamelCatalogVersionLoader camelCatalogVersionLoader;
 
     public FunctionsGenerator(CamelCatalog camelCatalog, CamelCatalogVersionLoader camelCatalogVersionLoader) {
+        this(new CamelCatalogModelRegistry(camelCatalog), camelCatalogVersionLoader);
+    }
+
+    /**
+     * @param camelCatalogModelRegistry the model registry of the catalog, it can be shared with other generators
+     * @param camelCatalogVersionLoader the loader of the catalog, providing the bundled resources
+     */
+    public FunctionsGenerator(CamelCatalogModelRegistry camelCatalogModelRegistry,
+                              CamelCatalogVersionLoader camelCatalogVersionLoader) {
         this.jsonMapper = new ObjectMapper();
-        this.camelCatalog = camelCatalog;
+        this.camelCatalogModelRegistry = camelCatalogModelRegistry;
         this.camelCatalogVersionLoader = camelCatalogVersionLoader;
     }
 
@@ -54,8 +64,9 @@ public class FunctionsGenerator implements Generator {
     }
 
     void addLanguagesFunction(Map<String, ObjectNode> rootNode) {
-        camelCatalog.findLanguageNames().forEach(languageName -> {
-            var languageFunctions = camelCatalog.languageModel(languageName).getFunctions();
+        camelCatalogModelRegistry.getLanguageNames().forEach(languageName -> {
+            var languageModel = (LanguageModel) camelCatalogModelRegistry.getModel(Kind.language, languageName);
+            var languageFunctions = languageModel.getFunctions();
             if (languageFunctions.isEmpty()) return;
 
             var functionsMap = languageFunctions.stream()
@@ -0,0 +1,61 @@
+/*
+ * Copyright (C) 2025 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.kaoto.camelcatalog.generators;
+
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
+
+/**
+ * Build the items of a generator, e.g. the components or the EIPs, one after another or in parallel.
+ */
+final class GenerationTasks {
+
+    private GenerationTasks() {
+    }
+
+    /**
+     * Build an item for every name. When a fork/join pool is given, the names are split across it, the items being
+     * still returned in the same order as the names.
+     *
+     * @param names        the names of the items to build
+     * @param itemBuilder  builds the item of a name, or returns {@code null} to skip it
+     * @param forkJoinPool the pool to build the items in parallel on, or {@code null} to build them one at a time
+     * @return the items by name, in the order of the names
+     */
+    static Map<String, ObjectNode> generateInOrder(List<String> names, Function<String, ObjectNode> itemBuilder,
+                                                   ForkJoinPool forkJoinPool) {
+        List<ObjectNode> items;
+        if (forkJoinPool == null) {
+            items = names.stream().map(itemBuilder).toList();
+        } else {
+            items = forkJoinPool.submit(() -> names.parallelStream().map(itemBuilder).toList()).join();
+        }
+
+        Map<String, ObjectNode> itemMap = new LinkedHashMap<>();
+        for (int i = 0; i < names.size(); i++) {
+            if (items.get(i) != null) {
+                itemMap.put(names.get(i), items.get(i));
+            }
+        }
+
+        return itemMap;
+    }
+}
@@ -15,7 +15,6 @@
  */
 package io.kaoto.camelcatalog.generators;
 
-import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
@@ -44,24 +43,17 @@ public class K8sSchemaReader {
     }
 
     private void populateReferences(ObjectNode definition, ObjectNode k8sSchemas) {
-        var added = true;
-        while (added) {
-            added = false;
-            for (JsonNode refParent : definition.findParents("$ref")) {
-                var ref = refParent.get("$ref").asText();
-                if (ref.startsWith("#/components")) {
-                    ((ObjectNode) refParent).put("$ref", ref.replace("#/components/schemas", "#/definitions"));
-                    ref = refParent.get("$ref").asText();
-                }
-                var name = ref.replace("#/definitions/", "");
-                if (!definition.has("definitions") || !definition.withObject("/definitions").has(name)) {
-                    var additionalDefinitions = definition.withObject("/definitions");
-                    additionalDefinitions.set(name, k8sSchemas.withObject("/" + name));
-                    added = true;
-                    break;
-                }
-            }
-        }
+        new SchemaDefinitionsResolver(
+                refParent -> {
+                    var ref = refParent.get("$ref").asText();
+                    if (ref.startsWith("#/components")) {
+                        refParent.put("$ref", ref.replace("#/components/schemas", "#/definitions"));
+                        ref = refParent.get("$ref").asText();
+                    }
+                    return ref.replace("#/definitions/", "");
+                },
+                name -> k8sSchemas.withObject("/" + name))
+                .populateDefinitions(definition);
     }
 
     private ObjectNode removeKubernetesCustomKeywords(ObjectNode definition) {
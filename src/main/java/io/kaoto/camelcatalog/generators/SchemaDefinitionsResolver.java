@@ -0,0 +1,70 @@
+/*
+ * Copyright (C) 2023 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.kaoto.camelcatalog.generators;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.function.Function;
+
+/**
+ * Completes a schema with every definition it references, directly or through other definitions.
+ * <p>
+ * The schema and the definitions it receives are walked once each, in document order, so the definitions are added
+ * in the same order as repeatedly scanning the whole schema for the first missing reference would do.
+ */
+public class SchemaDefinitionsResolver {
+    private final Function<ObjectNode, String> referenceNameResolver;
+    private final Function<String, JsonNode> definitionProvider;
+
+    /**
+     * @param referenceNameResolver gives the definition name of a node holding a {@code $ref}, or {@code null} when
+     *                              the reference should not be inlined. It may relocate the {@code $ref} in place
+     * @param definitionProvider    gives the definition to add for a given name
+     */
+    public SchemaDefinitionsResolver(Function<ObjectNode, String> referenceNameResolver,
+                                     Function<String, JsonNode> definitionProvider) {
+        this.referenceNameResolver = referenceNameResolver;
+        this.definitionProvider = definitionProvider;
+    }
+
+    /**
+     * Add the missing referenced definitions at the end of the {@code definitions} of the schema.
+     *
+     * @param schema the schema to complete, its {@code definitions} are expected to be its last entry, if any
+     */
+    public void populateDefinitions(ObjectNode schema) {
+        Deque<JsonNode> pendingNodes = new ArrayDeque<>();
+        pendingNodes.add(schema);
+
+        while (!pendingNodes.isEmpty()) {
+            for (JsonNode refParent : pendingNodes.poll().findParents("$ref")) {
+                var name = referenceNameResolver.apply((ObjectNode) refParent);
+                if (name == null) {
+                    continue;
+                }
+
+                if (!schema.has("definitions") || !schema.withObject("/definitions").has(name)) {
+                    var definition = definitionProvider.apply(name);
+                    schema.withObject("/definitions").set(name, definition);
+                    pendingNodes.add(definition);
+                }
+            }
+        }
+    }
+}
@@ -51,32 +51,44 @@ public class SchemaPropertyFilter {
         );
     }
 
-    void schemaPropertyFilter(String eipName, ObjectNode node) {
-        if (!processorPropertyBlockList.containsKey(eipName)) return;
+    /**
+     * Get a copy of the schema of an EIP without the properties handled separately, e.g. the "steps" or the
+     * "parameters". The schema itself is left untouched, so it can be shared.
+     *
+     * @param eipName the name of the EIP, e.g. "choice"
+     * @param node    the source schema of the EIP
+     * @return a copy of the schema, that can be freely modified
+     */
+    ObjectNode filter(String eipName, ObjectNode node) {
+        var filteredNode = node.deepCopy();
+        if (!processorPropertyBlockList.containsKey(eipName)) return filteredNode;
 
-        filterProperties(eipName, node);
+        filterProperties(eipName, filteredNode);
 
-        if (node.has("oneOf")) {
-            var array = (ArrayNode) node.get("oneOf");
+        if (filteredNode.has("oneOf")) {
+            var array = (ArrayNode) filteredNode.get("oneOf");
             array.forEach(element -> {
                 filterProperties(eipName, (ObjectNode) element);
             });
         }
 
-        if (node.has("anyOf")) {
-            var array = (ArrayNode) node.get("anyOf");
+        if (filteredNode.has("anyOf")) {
+            var array = (ArrayNode) filteredNode.get("anyOf");
             array.forEach(element -> {
                 filterProperties(eipName, (ObjectNode) element);
             });
         }
+
+        return filteredNode;
     }
 
-    void filterProperties(String eipName, ObjectNode node) {
+    private void filterProperties(String eipName, ObjectNode node) {
         if (node.has("properties")) {
             var properties = (ObjectNode) node.get("properties");
+            List<String> blockedProperties = processorPropertyBlockList.get(eipName);
             Set<String> propToRemove = new HashSet<>();
             properties.fields().forEachRemaining(entry -> {
-                if (processorPropertyBlockList.get(eipName).contains(entry.getKey())) {
+                if (blockedProperties.contains(entry.getKey())) {
                     propToRemove.add(entry.getKey());
                 }
             });
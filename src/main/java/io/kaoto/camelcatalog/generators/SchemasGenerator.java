@@ -16,6 +16,7 @@
 package io.kaoto.camelcatalog.generators;
 
 import io.kaoto.camelcatalog.maven.CamelCatalogVersionLoader;
+import io.kaoto.camelcatalog.maven.JarResourceIndex;
 
 import java.io.IOException;
 import java.io.InputStream;
@@ -54,12 +55,10 @@ public class SchemasGenerator {
     }
 
     private void addCamelYamlDslSchema(Map<String, String> schemas) {
+        // The schema is already normalized to draft-07 by the version loader
         String yamlDslSchema = versionLoader.getCamelYamlDslSchema();
         if (yamlDslSchema != null) {
-            // Convert from draft-04 to draft-07 (same as existing code)
-            String schema07 = yamlDslSchema.replace("http://json-schema.org/draft-04/schema#",
-                    "http://json-schema.org/draft-07/schema#");
-            schemas.put(CAMEL_YAML_DSL_FILE_NAME, schema07);
+            schemas.put(CAMEL_YAML_DSL_FILE_NAME, yamlDslSchema);
             LOGGER.log(Level.INFO, "Added Camel YAML DSL schema");
         } else {
             LOGGER.log(Level.WARNING, "Camel YAML DSL schema is not loaded");
@@ -67,8 +66,12 @@ public class SchemasGenerator {
     }
 
     private void addXSDSchemas(Map<String, String> schemas) {
+        JarResourceIndex resourceIndex = JarResourceIndex.of(classLoader);
+
+        // The resolved jars are listed through the index, after the installed ones, so their schema wins
         try {
-            Iterator<URL> it = classLoader.getResources(XSD_RESOURCE_PATH).asIterator();
+            ClassLoader unindexedClassLoader = resourceIndex == null ? classLoader : classLoader.getParent();
+            Iterator<URL> it = unindexedClassLoader.getResources(XSD_RESOURCE_PATH).asIterator();
 
             while (it.hasNext()) {
                 URL resourceUrl = it.next();
@@ -83,11 +86,31 @@ public class SchemasGenerator {
         } catch (IOException e) {
             LOGGER.log(Level.WARNING, "Error loading XSD schemas from classpath", e);
         }
+
+        if (resourceIndex != null) {
+            resourceIndex.getResources(XSD_RESOURCE_PATH).forEach((name, url) -> {
+                if (name.contains(CAMEL_XML_IO_SCHEMA)) {
+                    loadXSDSchema(name, url, schemas);
+                }
+            });
+        }
+    }
+
+    private void loadXSDSchema(String name, URL url, Map<String, String> schemas) {
+        LOGGER.log(Level.INFO, "Loading XSD schema: {0}", name);
+
+        try (InputStream inputStream = url.openStream()) {
+            schemas.put(CAMEL_XML_IO_SCHEMA, readInputStreamAsString(inputStream));
+        } catch (IOException e) {
+            LOGGER.log(Level.WARNING, "Error reading XSD schema: " + name, e);
+        }
     }
 
     private void loadXSDSchemasFromJar(URL resourceUrl, Map<String, String> schemas) {
         try {
             JarURLConnection connection = (JarURLConnection) resourceUrl.openConnection();
+            // Use a private JarFile, closing a cached one would break other catalogs being generated concurrently
+            connection.setUseCaches(false);
             try (JarFile jarFile = connection.getJarFile()) {
                 Enumeration<JarEntry> entries = jarFile.entries();
                 String entryBaseName = connection.getEntryName();
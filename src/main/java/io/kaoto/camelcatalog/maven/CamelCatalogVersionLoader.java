@@ -15,27 +15,32 @@
  */
 package io.kaoto.camelcatalog.maven;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import io.kaoto.camelcatalog.model.CatalogRuntime;
 import io.kaoto.camelcatalog.model.Constants;
 import io.kaoto.camelcatalog.model.MavenCoordinates;
 import org.apache.camel.catalog.CamelCatalog;
 import org.apache.camel.catalog.DefaultCamelCatalog;
 import org.apache.camel.catalog.DefaultRuntimeProvider;
+import org.apache.camel.catalog.RuntimeProvider;
 import org.apache.camel.catalog.quarkus.QuarkusRuntimeProvider;
 import org.apache.camel.springboot.catalog.SpringBootRuntimeProvider;
 
 import java.io.IOException;
 import java.io.InputStream;
-import java.net.URI;
-import java.net.URISyntaxException;
 import java.net.URL;
-import java.nio.charset.StandardCharsets;
 import java.util.*;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
 public class CamelCatalogVersionLoader {
     private static final Logger LOGGER = Logger.getLogger(CamelCatalogVersionLoader.class.getName());
+    private static final String JSON_SCHEMA_DRAFT_04 = "http://json-schema.org/draft-04/schema#";
+    private static final String JSON_SCHEMA_DRAFT_07 = "http://json-schema.org/draft-07/schema#";
+    private static final String CAMEL_CATALOG_MODELS_DIR = "org/apache/camel/catalog/models";
+    private static final ObjectMapper jsonMapper = new ObjectMapper();
     private final ResourceLoader resourceLoader;
     private final CamelCatalog camelCatalog = new DefaultCamelCatalog(true);
     private final Map<String, String> kameletBoundaries = new HashMap<>();
@@ -46,10 +51,19 @@ public class CamelCatalogVersionLoader {
     private final CatalogRuntime runtime;
     private final KaotoMavenVersionManager kaotoVersionManager;
     private String camelYamlDSLSchema;
+    private ObjectNode camelYamlDSLSchemaNode;
     private String kubernetesSchema;
+    private KubernetesSchemaSource kubernetesSchemaSource = KubernetesSchemaSource.getDefault();
 
     public CamelCatalogVersionLoader(CatalogRuntime runtime, boolean verbose) {
-        kaotoVersionManager = new KaotoMavenVersionManager();
+        this(runtime, verbose, MavenArtifactResolver.getInstance());
+    }
+
+    /**
+     * @param artifactResolver the resolver of the Maven artifacts, it can be shared with the loaders of other catalogs
+     */
+    public CamelCatalogVersionLoader(CatalogRuntime runtime, boolean verbose, MavenArtifactResolver artifactResolver) {
+        kaotoVersionManager = new KaotoMavenVersionManager(artifactResolver);
         kaotoVersionManager.setLog(verbose);
 
         this.resourceLoader = new ResourceLoader(kaotoVersionManager, verbose);
@@ -65,10 +79,25 @@ public class CamelCatalogVersionLoader {
         return camelCatalog;
     }
 
+    /**
+     * Get the Camel YAML DSL JSON schema, with its draft-04 references upgraded to draft-07.
+     *
+     * @return the schema as loaded from the classpath, or {@code null} when it is not loaded
+     */
     public String getCamelYamlDslSchema() {
         return camelYamlDSLSchema;
     }
 
+    /**
+     * Get the parsed Camel YAML DSL JSON schema. The same tree is shared by every generator of this catalog, so it
+     * must be treated as read-only: consumers needing to modify it have to work on a copy.
+     *
+     * @return the parsed schema, or {@code null} when it is not loaded
+     */
+    public ObjectNode getCamelYamlDslSchemaNode() {
+        return camelYamlDSLSchemaNode;
+    }
+
     public List<String> getKameletBoundaries() {
         return kameletBoundaries.values().stream().toList();
     }
@@ -81,6 +110,18 @@ public class CamelCatalogVersionLoader {
         return kubernetesSchema;
     }
 
+    public KubernetesSchemaSource getKubernetesSchemaSource() {
+        return kubernetesSchemaSource;
+    }
+
+    /**
+     * @param kubernetesSchemaSource where to load the Kubernetes OpenAPI specification from, the bundled copy by
+     *                               default
+     */
+    public void setKubernetesSchemaSource(KubernetesSchemaSource kubernetesSchemaSource) {
+        this.kubernetesSchemaSource = kubernetesSchemaSource;
+    }
+
     public List<String> getCamelKCRDs() {
         return camelKCRDs;
     }
@@ -101,6 +142,18 @@ public class CamelCatalogVersionLoader {
         return kaotoVersionManager.getClassLoader();
     }
 
+    public ResolutionProfile getResolutionProfile() {
+        return kaotoVersionManager.getResolutionProfile();
+    }
+
+    /**
+     * @param resolutionProfile how much of the dependency tree of the catalog artifacts to resolve, the whole tree by
+     *                          default
+     */
+    public void setResolutionProfile(ResolutionProfile resolutionProfile) {
+        kaotoVersionManager.setResolutionProfile(resolutionProfile);
+    }
+
     public boolean loadCamelCatalog(String version) {
         if (version != null) {
             resourceLoader.configureRepositories(version);
@@ -124,6 +177,8 @@ public class CamelCatalogVersionLoader {
                 break;
         }
 
+        preloadCatalogDescriptors();
+
         return camelCatalog.getCatalogVersion() != null;
     }
 
@@ -146,12 +201,20 @@ public class CamelCatalogVersionLoader {
                 scanner.useDelimiter("\\A");
                 camelYamlDSLSchema = scanner.hasNext() ? scanner.next() : "";
             }
+
+            // The generated schemas are exposed as draft-07, normalize it once so consumers don't have to
+            camelYamlDSLSchema = camelYamlDSLSchema.replace(JSON_SCHEMA_DRAFT_04, JSON_SCHEMA_DRAFT_07);
+            JsonNode schemaNode = jsonMapper.readTree(camelYamlDSLSchema);
+            camelYamlDSLSchemaNode = schemaNode.isObject() ? (ObjectNode) schemaNode : null;
         } catch (IOException e) {
             LOGGER.log(Level.SEVERE, e.toString(), e);
             return false;
         }
 
-        return camelYamlDSLSchema != null;
+        if (camelYamlDSLSchemaNode == null) {
+            LOGGER.log(Level.SEVERE, Constants.CAMEL_YAML_DSL_ARTIFACT + " is not a JSON object");
+        }
+        return camelYamlDSLSchemaNode != null;
     }
 
     public boolean loadKameletBoundaries() {
@@ -173,14 +236,9 @@ public class CamelCatalogVersionLoader {
     }
 
     public boolean loadKubernetesSchema() {
-        String url =
-                "https://raw.githubusercontent.com/kubernetes/kubernetes/master/api/openapi-spec/v3/api__v1_openapi.json";
-
-        try (InputStream in = new URI(url).toURL().openStream(); Scanner scanner = new Scanner(in,
-                StandardCharsets.UTF_8)) {
-            scanner.useDelimiter("\\A");
-            kubernetesSchema = scanner.hasNext() ? scanner.next() : "";
-        } catch (IOException | URISyntaxException e) {
+        try {
+            kubernetesSchema = kubernetesSchemaSource.load();
+        } catch (IOException e) {
             LOGGER.log(Level.SEVERE, e.toString(), e);
             return false;
         }
@@ -223,7 +281,65 @@ public class CamelCatalogVersionLoader {
         resourceLoader.loadResourcesFromFolderAsString("kaoto-patterns", kaotoPatterns, ".json");
     }
 
-    MavenCoordinates getCatalogMavenCoordinates(CatalogRuntime runtime, String version) {
+    /**
+     * List the Maven artifacts that loading the given catalog resolves, so they can be resolved ahead of time. They
+     * are requested the same way {@link KaotoMavenVersionManager} does once the catalog repositories are configured.
+     *
+     * @param runtime           the catalog runtime
+     * @param catalogVersion    the catalog version
+     * @param kameletsVersion   the kamelets version, or {@code null} for the installed version
+     * @param camelKCRDsVersion the Camel K CRDs version
+     * @return the artifacts to resolve
+     */
+    public static List<MavenArtifactResolver.Request> getArtifactRequests(CatalogRuntime runtime, String catalogVersion,
+                                                                          String kameletsVersion,
+                                                                          String camelKCRDsVersion) {
+        return getArtifactRequests(runtime, catalogVersion, kameletsVersion, camelKCRDsVersion,
+                ResolutionProfile.FULL);
+    }
+
+    /**
+     * List the Maven artifacts that loading the given catalog resolves with the given profile.
+     *
+     * @param runtime           the catalog runtime
+     * @param catalogVersion    the catalog version
+     * @param kameletsVersion   the kamelets version, or {@code null} for the installed version
+     * @param camelKCRDsVersion the Camel K CRDs version
+     * @param resolutionProfile how much of the dependency tree of the artifacts is resolved
+     * @return the artifacts to resolve
+     */
+    public static List<MavenArtifactResolver.Request> getArtifactRequests(CatalogRuntime runtime, String catalogVersion,
+                                                                          String kameletsVersion,
+                                                                          String camelKCRDsVersion,
+                                                                          ResolutionProfile resolutionProfile) {
+        Set<String> repositories = new LinkedHashSet<>(ResourceLoader.getRepositories(catalogVersion).values());
+
+        List<MavenArtifactResolver.Request> requests = new ArrayList<>();
+        requests.add(getRequest(getCatalogMavenCoordinates(runtime, catalogVersion), repositories,
+                resolutionProfile));
+        requests.add(getRequest(getYamlDslMavenCoordinates(runtime, catalogVersion), repositories,
+                resolutionProfile));
+        if (kameletsVersion != null) {
+            requests.add(getRequest(new MavenCoordinates(Constants.APACHE_CAMEL_KAMELETS_ORG,
+                    Constants.KAMELETS_PACKAGE, kameletsVersion), repositories, resolutionProfile));
+        }
+        requests.add(getRequest(new MavenCoordinates(Constants.APACHE_CAMEL_K_ORG, Constants.CAMEL_K_CRDS_PACKAGE,
+                camelKCRDsVersion), repositories, resolutionProfile));
+
+        return requests;
+    }
+
+    private static MavenArtifactResolver.Request getRequest(MavenCoordinates coordinates, Set<String> repositories,
+                                                            ResolutionProfile resolutionProfile) {
+        if (resolutionProfile == ResolutionProfile.TARGETED) {
+            return KaotoMavenVersionManager.getTargetedRequest(coordinates.getGroupId(), coordinates.getArtifactId(),
+                    coordinates.getVersion(), repositories);
+        }
+        return MavenArtifactResolver.Request.of(coordinates.getGroupId(), coordinates.getArtifactId(),
+                coordinates.getVersion(), repositories);
+    }
+
+    static MavenCoordinates getCatalogMavenCoordinates(CatalogRuntime runtime, String version) {
         return switch (runtime) {
             case Quarkus ->
                     new MavenCoordinates(Constants.APACHE_CAMEL_ORG + ".quarkus", "camel-quarkus-catalog", version);
@@ -233,7 +349,7 @@ public class CamelCatalogVersionLoader {
         };
     }
 
-    MavenCoordinates getYamlDslMavenCoordinates(CatalogRuntime runtime, String version) {
+    static MavenCoordinates getYamlDslMavenCoordinates(CatalogRuntime runtime, String version) {
         return switch (runtime) {
             case Quarkus ->
                     new MavenCoordinates(Constants.APACHE_CAMEL_ORG + ".quarkus", "camel-quarkus-yaml-dsl", version);
@@ -244,6 +360,30 @@ public class CamelCatalogVersionLoader {
         };
     }
 
+    /*
+     * The generators read every component, data format, language and model descriptor of the catalog, read them
+     * all in parallel upfront instead of one by one while generating.
+     */
+    private void preloadCatalogDescriptors() {
+        long start = System.currentTimeMillis();
+        RuntimeProvider runtimeProvider = camelCatalog.getRuntimeProvider();
+
+        List<String> descriptors = new ArrayList<>();
+        addDescriptors(descriptors, runtimeProvider.getComponentJSonSchemaDirectory(), camelCatalog.findComponentNames());
+        addDescriptors(descriptors, runtimeProvider.getDataFormatJSonSchemaDirectory(),
+                camelCatalog.findDataFormatNames());
+        addDescriptors(descriptors, runtimeProvider.getLanguageJSonSchemaDirectory(), camelCatalog.findLanguageNames());
+        addDescriptors(descriptors, CAMEL_CATALOG_MODELS_DIR, camelCatalog.findModelNames());
+
+        int preloaded = kaotoVersionManager.preloadResources(descriptors);
+        LOGGER.info(String.format("Preloaded %d catalog descriptors in %d ms", preloaded,
+                System.currentTimeMillis() - start));
+    }
+
+    private void addDescriptors(List<String> descriptors, String directory, List<String> names) {
+        names.forEach(name -> descriptors.add(directory + "/" + name + ".json"));
+    }
+
     /*
      * This method is used to load a dependency in the classpath. This is a
      * workaround
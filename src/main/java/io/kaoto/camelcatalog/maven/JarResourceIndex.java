@@ -0,0 +1,152 @@
+/*
+ * Copyright (C) 2025 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.kaoto.camelcatalog.maven;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.MalformedURLException;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.util.Enumeration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+
+/**
+ * Index of the resources of the jars added to a {@link KaotoOpenURLClassLoader}, by entry name, together with the
+ * version of the Maven artifact each jar belongs to. It is built as the jars are added, so looking up a resource of a
+ * given version, or listing the resources of a folder, doesn't scan the jars again.
+ * <p>
+ * Only the jars added to the class loader are indexed, the resources of its parent are still looked up through it.
+ */
+public class JarResourceIndex {
+    private static final String CLASS_SUFFIX = ".class";
+
+    private final Map<String, List<Resource>> resourcesByName = new ConcurrentHashMap<>();
+    private final NavigableSet<String> names = new ConcurrentSkipListSet<>();
+
+    /**
+     * The index of the given class loader.
+     *
+     * @return the index, or {@code null} when the class loader doesn't index its jars
+     */
+    public static JarResourceIndex of(ClassLoader classLoader) {
+        if (classLoader instanceof KaotoOpenURLClassLoader kaotoClassLoader) {
+            return kaotoClassLoader.getResourceIndex();
+        }
+        return null;
+    }
+
+    /**
+     * Add the resources of a jar, classes aside. Resources already indexed from previously added jars are kept first.
+     *
+     * @param jarUrl the "file" URL of the jar
+     */
+    void add(URL jarUrl) throws IOException {
+        File file;
+        try {
+            file = new File(jarUrl.toURI());
+        } catch (URISyntaxException | IllegalArgumentException e) {
+            throw new IOException("Cannot index " + jarUrl, e);
+        }
+
+        String version = getVersion(file);
+        try (JarFile jarFile = new JarFile(file)) {
+            Enumeration<JarEntry> entries = jarFile.entries();
+            while (entries.hasMoreElements()) {
+                JarEntry entry = entries.nextElement();
+                if (entry.isDirectory() || entry.getName().endsWith(CLASS_SUFFIX)) {
+                    continue;
+                }
+
+                resourcesByName.computeIfAbsent(entry.getName(), name -> new CopyOnWriteArrayList<>())
+                        .add(new Resource(jarUrl, entry.getName(), version));
+                names.add(entry.getName());
+            }
+        }
+    }
+
+    /**
+     * Find a resource in the first added jar of the given artifact version.
+     *
+     * @param name    the resource name, e.g. "schema/camelYamlDsl.json"
+     * @param version the artifact version, e.g. "4.16.0"
+     * @return the resource URL, or {@code null} when no jar of that version holds it
+     */
+    public URL getResource(String name, String version) {
+        List<Resource> resources = resourcesByName.get(name);
+        if (resources == null) {
+            return null;
+        }
+
+        for (Resource resource : resources) {
+            if (version.equals(resource.version())) {
+                return resource.getUrl();
+            }
+        }
+        return null;
+    }
+
+    /**
+     * List the resources of a folder, including its sub-folders. When several jars hold the same resource, the last
+     * added one wins, as it would when reading the resources of every jar in turn.
+     *
+     * @param folderName the folder name, e.g. "kamelets"
+     * @return the resource URLs by resource name, sorted by name
+     */
+    public Map<String, URL> getResources(String folderName) {
+        String prefix = folderName.endsWith("/") ? folderName : folderName + "/";
+        Map<String, URL> resources = new LinkedHashMap<>();
+
+        for (String name : names.subSet(prefix, true, prefix + Character.MAX_VALUE, false)) {
+            List<Resource> jarResources = resourcesByName.get(name);
+            resources.put(name, jarResources.get(jarResources.size() - 1).getUrl());
+        }
+        return resources;
+    }
+
+    /**
+     * The version of the Maven artifact a jar belongs to, based on the layout of the local Maven repository, e.g.
+     * "org/apache/camel/camel-catalog/4.16.0/camel-catalog-4.16.0.jar".
+     *
+     * @return the version, or {@code null} when the jar isn't laid out as in a Maven repository
+     */
+    static String getVersion(File jar) {
+        File versionFolder = jar.getParentFile();
+        File artifactFolder = versionFolder == null ? null : versionFolder.getParentFile();
+        if (artifactFolder == null
+                || !jar.getName().startsWith(artifactFolder.getName() + "-" + versionFolder.getName())) {
+            return null;
+        }
+        return versionFolder.getName();
+    }
+
+    private record Resource(URL jarUrl, String name, String version) {
+        URL getUrl() {
+            try {
+                return new URL("jar:" + jarUrl.toExternalForm() + "!/" + name);
+            } catch (MalformedURLException e) {
+                throw new IllegalStateException("Cannot build the URL of " + name + " in " + jarUrl, e);
+            }
+        }
+    }
+}
@@ -1,14 +1,14 @@
 package io.kaoto.camelcatalog.maven;
 
 import org.apache.camel.catalog.maven.MavenVersionManager;
-import org.apache.camel.tooling.maven.MavenArtifact;
-import org.apache.camel.tooling.maven.MavenDownloader;
-import org.apache.camel.tooling.maven.MavenDownloaderImpl;
 
+import java.io.ByteArrayInputStream;
+import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.URL;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -21,20 +21,30 @@ import java.util.logging.Logger;
  */
 public class KaotoMavenVersionManager extends MavenVersionManager {
     private static final Logger LOGGER = Logger.getLogger(KaotoMavenVersionManager.class.getName());
+    private static final String CAMEL_GROUP_ID = "org.apache.camel";
+    private static final String CAMEL_CATALOG_ARTIFACT_ID = "camel-catalog";
+    private static final String CAMEL_YAML_DSL_ARTIFACT_ID = "camel-yaml-dsl";
+    private static final Set<String> YAML_DSL_RUNTIME_PROVIDER_ARTIFACT_IDS =
+            Set.of("camel-quarkus-yaml-dsl", "camel-yaml-dsl-starter");
 
-    protected final MavenDownloader downloader;
+    protected final MavenArtifactResolver artifactResolver;
     protected final Map<String, String> repositories = new LinkedHashMap<>();
+    private final Map<String, byte[]> preloadedResources = new ConcurrentHashMap<>();
     private String version;
     private String runtimeProviderVersion;
+    private ResolutionProfile resolutionProfile = ResolutionProfile.FULL;
     private boolean log;
 
-    private KaotoMavenVersionManager(MavenDownloaderImpl downloader) {
-        this.downloader = downloader;
-        downloader.build();
+    public KaotoMavenVersionManager() {
+        this(MavenArtifactResolver.getInstance());
     }
 
-    public KaotoMavenVersionManager() {
-        this(new MavenDownloaderImpl());
+    /**
+     * @param artifactResolver the resolver of the Maven artifacts, it is shared with the other version managers while
+     *                         the resolved artifacts are only added to the class loader of this one
+     */
+    public KaotoMavenVersionManager(MavenArtifactResolver artifactResolver) {
+        this.artifactResolver = artifactResolver;
         this.setClassLoader(new KaotoOpenURLClassLoader());
     }
 
@@ -46,6 +56,18 @@ public class KaotoMavenVersionManager extends MavenVersionManager {
         this.log = log;
     }
 
+    public ResolutionProfile getResolutionProfile() {
+        return resolutionProfile;
+    }
+
+    /**
+     * @param resolutionProfile how much of the dependency tree of the loaded artifacts to resolve, the whole tree by
+     *                          default
+     */
+    public void setResolutionProfile(ResolutionProfile resolutionProfile) {
+        this.resolutionProfile = resolutionProfile;
+    }
+
     /**
      * To add a 3rd party Maven repository.
      *
@@ -70,11 +92,10 @@ public class KaotoMavenVersionManager extends MavenVersionManager {
     @Override
     public boolean loadRuntimeProviderVersion(String groupId, String artifactId, String version) {
         try {
-            String gav = String.format("%s:%s:%s", groupId, artifactId, version);
-            boolean shouldFetchTransitive = true;
-            boolean shouldUseSnapshots = version.endsWith("SNAPSHOT");
-
-            resolve(downloader, gav, shouldUseSnapshots, shouldFetchTransitive);
+            Set<String> extraRepositories = new LinkedHashSet<>(repositories.values());
+            resolve(resolutionProfile == ResolutionProfile.FULL
+                    ? MavenArtifactResolver.Request.of(groupId, artifactId, version, extraRepositories)
+                    : getTargetedRequest(groupId, artifactId, version, extraRepositories));
             this.runtimeProviderVersion = version;
 
             if (artifactId.contains("catalog")) {
@@ -98,32 +119,90 @@ public class KaotoMavenVersionManager extends MavenVersionManager {
      * as one of the URLs in the
      * helperClassLoader, so further Catalog access may load resources from it.
      */
-    public void resolve(MavenDownloader mavenDownloader, String gav, boolean useSnapshots, boolean transitive) {
-        try {
-            Set<String> extraRepositories = new LinkedHashSet<>(repositories.values());
+    public void resolve(String gav, boolean useSnapshots, boolean transitive) {
+        Set<String> extraRepositories = new LinkedHashSet<>(repositories.values());
+        resolve(new MavenArtifactResolver.Request(gav, extraRepositories, useSnapshots, transitive, Set.of()));
+    }
 
-            List<MavenArtifact> artifacts =
-                    mavenDownloader.resolveArtifacts(Collections.singletonList(gav), extraRepositories, transitive,
-                            useSnapshots);
+    /**
+     * Resolves the requested Maven artifact, along with the direct dependencies it asks for, and use the downloaded
+     * artifacts as URLs in the helperClassLoader.
+     */
+    public void resolve(MavenArtifactResolver.Request request) {
+        try {
+            List<File> files = artifactResolver.resolve(request);
 
             if (getLog()) {
-                LOGGER.log(Level.FINE, () -> "Artifacts: " + artifacts);
+                LOGGER.log(Level.FINE, () -> "Artifacts: " + files);
             }
 
-            for (MavenArtifact ma : artifacts) {
-                ((KaotoOpenURLClassLoader) getClassLoader()).addURL(ma.getFile().toURI().toURL());
+            for (File file : files) {
+                ((KaotoOpenURLClassLoader) getClassLoader()).addURL(file.toURI().toURL());
             }
         } catch (Throwable e) {
             if (getLog()) {
-                LOGGER.log(Level.WARNING, String.format("Error resolving artifact %s due to %s", gav, e.getMessage()),
-                        e);
+                LOGGER.log(Level.WARNING, String.format("Error resolving artifact %s due to %s", request.gav(),
+                        e.getMessage()), e);
             }
         }
+    }
+
+    /**
+     * The request of the given artifact with the {@link ResolutionProfile#TARGETED} profile: the artifact is resolved
+     * without its dependencies, except for the one holding the resources it is loaded for. A catalog brings the Camel
+     * catalog it extends and a YAML DSL runtime provider the Camel YAML DSL it wraps, at the versions their POMs
+     * declare.
+     */
+    static MavenArtifactResolver.Request getTargetedRequest(String groupId, String artifactId, String version,
+                                                            Set<String> repositories) {
+        Set<String> dependencies = Set.of();
+        if (YAML_DSL_RUNTIME_PROVIDER_ARTIFACT_IDS.contains(artifactId)) {
+            dependencies = Set.of(CAMEL_GROUP_ID + ":" + CAMEL_YAML_DSL_ARTIFACT_ID);
+        } else if (artifactId.contains("catalog")
+                && !(groupId.equals(CAMEL_GROUP_ID) && artifactId.equals(CAMEL_CATALOG_ARTIFACT_ID))) {
+            dependencies = Set.of(CAMEL_GROUP_ID + ":" + CAMEL_CATALOG_ARTIFACT_ID);
+        }
+
+        return MavenArtifactResolver.Request.of(groupId, artifactId, version, repositories, dependencies);
+    }
+
+    /**
+     * Read the given resources in parallel and keep them in memory, so the catalog doesn't have to look them up in
+     * the classpath one by one. The resources are resolved the same way as {@link #getResourceAsStream(String)} does,
+     * and each of them is handed out once: the catalog caches what it reads. Resources that cannot be read are left
+     * to the regular lookup.
+     *
+     * @param names the resource names, e.g. "org/apache/camel/catalog/models/setHeader.json"
+     * @return the number of resources found
+     */
+    public int preloadResources(Collection<String> names) {
+        names.parallelStream().distinct().forEach(name -> {
+            try (InputStream is = findResourceAsStream(name)) {
+                if (is != null) {
+                    preloadedResources.put(name, is.readAllBytes());
+                }
+            } catch (IOException e) {
+                if (getLog()) {
+                    LOGGER.log(Level.WARNING, String.format("Cannot preload resource %s due %s", name, e.getMessage()),
+                            e);
+                }
+            }
+        });
 
+        return preloadedResources.size();
     }
 
     @Override
     public InputStream getResourceAsStream(String name) {
+        byte[] preloadedResource = preloadedResources.remove(name);
+        if (preloadedResource != null) {
+            return new ByteArrayInputStream(preloadedResource);
+        }
+
+        return findResourceAsStream(name);
+    }
+
+    private InputStream findResourceAsStream(String name) {
         InputStream is = null;
 
         if (runtimeProviderVersion != null) {
@@ -139,17 +218,18 @@ public class KaotoMavenVersionManager extends MavenVersionManager {
         return is;
     }
 
+    /*
+     * Only the resolved jars are looked up by version, through the index of the class loader, the installed ones are
+     * left to the regular lookup
+     */
     private InputStream doGetResourceAsStream(String name, String version) {
-        if (version != null) {
+        JarResourceIndex resourceIndex = JarResourceIndex.of(getClassLoader());
+        if (version != null && resourceIndex != null) {
             try {
-                Enumeration<URL> urls = getClassLoader().getResources(name);
-                while (urls.hasMoreElements()) {
-                    URL url = urls.nextElement();
-                    if (url.getPath().contains(version)) {
-                        return url.openStream();
-                    }
+                URL url = resourceIndex.getResource(name, version);
+                if (url != null) {
+                    return url.openStream();
                 }
-
             } catch (IOException e) {
                 if (getLog()) {
                     LOGGER.log(Level.WARNING,
@@ -16,16 +16,24 @@
  */
 package io.kaoto.camelcatalog.maven;
 
+import java.io.IOException;
 import java.net.URL;
 import java.net.URLClassLoader;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 
 /**
  * This class is a copy of the OpenURLClassLoader class from the Apache Camel
  * Catalog project.
  *
  * This is a workaround because the original class is package private
+ *
+ * The resources of the added jars are indexed as they are added, see {@link JarResourceIndex}.
  */
 class KaotoOpenURLClassLoader extends URLClassLoader {
+    private static final Logger LOGGER = Logger.getLogger(KaotoOpenURLClassLoader.class.getName());
+
+    private final JarResourceIndex resourceIndex = new JarResourceIndex();
 
     public KaotoOpenURLClassLoader() {
         super(new URL[0]);
@@ -34,6 +42,19 @@ class KaotoOpenURLClassLoader extends URLClassLoader {
     @Override
     public void addURL(URL url) {
         super.addURL(url);
+
+        if ("file".equals(url.getProtocol()) && url.getPath().endsWith(".jar")) {
+            try {
+                resourceIndex.add(url);
+            } catch (IOException e) {
+                // The jar is still on the class path, its resources are only missing from version-aware lookups
+                LOGGER.log(Level.WARNING, String.format("Cannot index jar %s due to %s", url, e.getMessage()), e);
+            }
+        }
+    }
+
+    JarResourceIndex getResourceIndex() {
+        return resourceIndex;
     }
 
 }
@@ -0,0 +1,229 @@
+/*
+ * Copyright (C) 2025 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.kaoto.camelcatalog.maven;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.logging.Logger;
+
+/**
+ * Where the Kubernetes OpenAPI specification used to build the {@code ObjectMeta} entity comes from.
+ * <p>
+ * By default, the copy bundled with the generator is used, so generating catalogs never reaches the network. A
+ * specification can also be downloaded, in which case it is kept in an on-disk cache, next to its checksum, and only
+ * downloaded again when the cached copy is missing, corrupted or a refresh is requested. A specification stored ahead of
+ * time, e.g. by the prefetch command, can be loaded without ever downloading it.
+ */
+@FunctionalInterface
+public interface KubernetesSchemaSource {
+    String BUNDLED_RESOURCE = "kubernetes/kubernetes-api-v1-openapi.json";
+    String DEFAULT_URL =
+            "https://raw.githubusercontent.com/kubernetes/kubernetes/master/api/openapi-spec/v3/api__v1_openapi.json";
+
+    /**
+     * Load the Kubernetes OpenAPI specification.
+     *
+     * @return the specification as a JSON string
+     */
+    String load() throws IOException;
+
+    /**
+     * The bundled specification, loaded once per JVM and shared by every catalog.
+     */
+    static KubernetesSchemaSource getDefault() {
+        return SharedSource.DEFAULT;
+    }
+
+    /**
+     * The specification bundled with the generator.
+     */
+    static KubernetesSchemaSource bundled() {
+        return () -> {
+            try (InputStream inputStream = KubernetesSchemaSource.class.getClassLoader()
+                    .getResourceAsStream(BUNDLED_RESOURCE)) {
+                if (inputStream == null) {
+                    throw new IOException("No " + BUNDLED_RESOURCE + " file found in the classpath");
+                }
+                return new String(inputStream.readAllBytes(), StandardCharsets.UTF_8);
+            }
+        };
+    }
+
+    /**
+     * A specification downloaded from the given URL.
+     *
+     * @param uri            the URL of the specification
+     * @param cacheDirectory the folder to keep the downloaded specification in, or {@code null} to always download it
+     * @param refresh        whether to download the specification again even if a valid copy is cached
+     */
+    static KubernetesSchemaSource downloaded(URI uri, Path cacheDirectory, boolean refresh) {
+        return new DownloadedSource(uri, cacheDirectory, refresh);
+    }
+
+    /**
+     * A specification previously stored in the given folder with {@link #store(Path, String)}. Loading it fails when it
+     * is missing or corrupted, instead of downloading it.
+     *
+     * @param directory the folder the specification is stored in
+     */
+    static KubernetesSchemaSource stored(Path directory) {
+        return () -> {
+            String schema = DownloadedSource.read(directory);
+            if (schema == null) {
+                throw new IOException("No valid Kubernetes OpenAPI specification found in " + directory);
+            }
+            return schema;
+        };
+    }
+
+    /**
+     * Store the specification in the given folder, next to its checksum, so it can be loaded with
+     * {@link #stored(Path)} or as the cached copy of {@link #downloaded(URI, Path, boolean)}.
+     *
+     * @param directory the folder to store the specification in
+     * @param schema    the specification as a JSON string
+     */
+    static void store(Path directory, String schema) throws IOException {
+        DownloadedSource.write(directory, schema);
+    }
+
+    /**
+     * Load the specification from the given source only once, and share it with every caller.
+     */
+    static KubernetesSchemaSource shared(KubernetesSchemaSource source) {
+        return new SharedSource(source);
+    }
+
+    final class SharedSource implements KubernetesSchemaSource {
+        private static final KubernetesSchemaSource DEFAULT = new SharedSource(bundled());
+
+        private final KubernetesSchemaSource source;
+        private String schema;
+
+        private SharedSource(KubernetesSchemaSource source) {
+            this.source = source;
+        }
+
+        @Override
+        public synchronized String load() throws IOException {
+            // A failed load is not remembered, so the next catalog tries again
+            if (schema == null) {
+                schema = source.load();
+            }
+            return schema;
+        }
+    }
+
+    final class DownloadedSource implements KubernetesSchemaSource {
+        private static final Logger LOGGER = Logger.getLogger(DownloadedSource.class.getName());
+        private static final String CACHED_FILE_NAME = "api__v1_openapi.json";
+        private static final String CHECKSUM_EXTENSION = ".sha256";
+
+        private final URI uri;
+        private final Path cacheDirectory;
+        private final boolean refresh;
+
+        private DownloadedSource(URI uri, Path cacheDirectory, boolean refresh) {
+            this.uri = uri;
+            this.cacheDirectory = cacheDirectory;
+            this.refresh = refresh;
+        }
+
+        @Override
+        public String load() throws IOException {
+            if (cacheDirectory == null) {
+                return download();
+            }
+
+            if (!refresh) {
+                String schema = read(cacheDirectory);
+                if (schema != null) {
+                    LOGGER.info("Kubernetes OpenAPI specification restored from cache: " + cacheDirectory);
+                    return schema;
+                }
+            }
+
+            String schema = download();
+            write(cacheDirectory, schema);
+
+            return schema;
+        }
+
+        /**
+         * @return the specification stored in the given folder, or {@code null} when it is missing or corrupted
+         */
+        static String read(Path directory) throws IOException {
+            Path cachedFile = directory.resolve(CACHED_FILE_NAME);
+            Path checksumFile = directory.resolve(CACHED_FILE_NAME + CHECKSUM_EXTENSION);
+            if (!Files.isRegularFile(cachedFile) || !Files.isRegularFile(checksumFile)) {
+                return null;
+            }
+
+            byte[] content = Files.readAllBytes(cachedFile);
+            if (!checksum(content).equals(Files.readString(checksumFile).trim())) {
+                LOGGER.warning("Stored Kubernetes OpenAPI specification is corrupted: " + cachedFile);
+                return null;
+            }
+            return new String(content, StandardCharsets.UTF_8);
+        }
+
+        static void write(Path directory, String schema) throws IOException {
+            byte[] content = schema.getBytes(StandardCharsets.UTF_8);
+            Path cachedFile = directory.resolve(CACHED_FILE_NAME);
+            Path checksumFile = directory.resolve(CACHED_FILE_NAME + CHECKSUM_EXTENSION);
+
+            // The checksum is written last, so an interrupted write is detected and downloaded again
+            Files.createDirectories(directory);
+            Path temporaryFile = Files.createTempFile(directory, CACHED_FILE_NAME + "-", ".tmp");
+            try {
+                Files.write(temporaryFile, content);
+                try {
+                    Files.move(temporaryFile, cachedFile, StandardCopyOption.ATOMIC_MOVE,
+                            StandardCopyOption.REPLACE_EXISTING);
+                } catch (AtomicMoveNotSupportedException e) {
+                    Files.move(temporaryFile, cachedFile, StandardCopyOption.REPLACE_EXISTING);
+                }
+            } finally {
+                Files.deleteIfExists(temporaryFile);
+            }
+            Files.writeString(checksumFile, checksum(content));
+        }
+
+        private String download() throws IOException {
+            LOGGER.info("Downloading Kubernetes OpenAPI specification: " + uri);
+            try (InputStream inputStream = uri.toURL().openStream()) {
+                return new String(inputStream.readAllBytes(), StandardCharsets.UTF_8);
+            }
+        }
+
+        private static String checksum(byte[] content) {
+            try {
+                return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content));
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+}
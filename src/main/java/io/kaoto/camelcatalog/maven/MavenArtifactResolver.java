@@ -0,0 +1,451 @@
+/*
+ * Copyright (C) 2025 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.kaoto.camelcatalog.maven;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.apache.camel.tooling.maven.MavenArtifact;
+import org.apache.camel.tooling.maven.MavenDownloader;
+import org.apache.camel.tooling.maven.MavenDownloaderImpl;
+import org.apache.camel.tooling.maven.MavenResolutionException;
+import org.apache.maven.model.Dependency;
+import org.apache.maven.model.Parent;
+import org.apache.maven.model.Repository;
+import org.apache.maven.model.building.DefaultModelBuilderFactory;
+import org.apache.maven.model.building.DefaultModelBuildingRequest;
+import org.apache.maven.model.building.FileModelSource;
+import org.apache.maven.model.building.ModelBuildingException;
+import org.apache.maven.model.building.ModelBuildingRequest;
+import org.apache.maven.model.building.ModelSource2;
+import org.apache.maven.model.resolution.ModelResolver;
+import org.apache.maven.model.resolution.UnresolvableModelException;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+/**
+ * Resolves Maven artifacts for the {@link KaotoMavenVersionManager}s sharing it, usually the ones of the catalogs
+ * generated by a single command, which configures its own resolver. The version managers created without one share
+ * {@link #getInstance()}, left with the default configuration.
+ * <p>
+ * The Maven downloader is built once and the files each artifact resolves to, including its transitive dependencies,
+ * are remembered, so an artifact shared by several catalogs, e.g. the kamelets, is only resolved once. The resolved
+ * files can be persisted between runs with {@link #setCacheFile(Path)}. Snapshots are always resolved again, and a
+ * remembered artifact whose files are gone from the local repository is resolved again as well.
+ * <p>
+ * The artifacts can be resolved into another local repository with {@link #setLocalRepository(Path)}, and such a
+ * repository can later be used instead of the remote ones with {@link #setOfflineRepository(Path)}.
+ * <p>
+ * An artifact can also be resolved alone along with some of its direct dependencies, at the versions its effective POM
+ * declares, instead of its whole dependency tree. Only the POMs needed to build the effective POM are resolved on top.
+ * <p>
+ * Only the files are shared, each version manager still adds them to its own class loader.
+ */
+public class MavenArtifactResolver {
+    private static final Logger LOGGER = Logger.getLogger(MavenArtifactResolver.class.getName());
+    private static final MavenArtifactResolver INSTANCE = new MavenArtifactResolver();
+    private static final int CONNECT_TIMEOUT = 10_000;
+    private static final int REQUEST_TIMEOUT = 1_800_000;
+    private static final ObjectMapper jsonMapper = new ObjectMapper()
+            .configure(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS, true);
+
+    /**
+     * An artifact to resolve.
+     *
+     * @param gav          the artifact coordinates, e.g. "org.apache.camel:camel-catalog:4.16.0"
+     * @param repositories the extra repositories to resolve the artifact from
+     * @param useSnapshots whether to resolve snapshots
+     * @param transitive   whether to resolve the transitive dependencies as well
+     * @param dependencies the direct dependencies to resolve along with the artifact, as "groupId:artifactId", at the
+     *                     versions its POM declares and without their own dependencies
+     */
+    public record Request(String gav, Set<String> repositories, boolean useSnapshots, boolean transitive,
+                          Set<String> dependencies) {
+        /**
+         * The request of a catalog dependency, with its transitive dependencies and snapshots for snapshot versions.
+         */
+        public static Request of(String groupId, String artifactId, String version, Set<String> repositories) {
+            return of(groupId, artifactId, version, repositories, true);
+        }
+
+        /**
+         * The request of a catalog dependency, with snapshots for snapshot versions.
+         */
+        public static Request of(String groupId, String artifactId, String version, Set<String> repositories,
+                                 boolean transitive) {
+            return new Request(String.format("%s:%s:%s", groupId, artifactId, version), repositories,
+                    version.endsWith("SNAPSHOT"), transitive, Set.of());
+        }
+
+        /**
+         * The request of a catalog dependency without its transitive dependencies, except for the given direct ones,
+         * with snapshots for snapshot versions.
+         */
+        public static Request of(String groupId, String artifactId, String version, Set<String> repositories,
+                                 Set<String> dependencies) {
+            return new Request(String.format("%s:%s:%s", groupId, artifactId, version), repositories,
+                    version.endsWith("SNAPSHOT"), false, dependencies);
+        }
+    }
+
+    private final Map<String, CompletableFuture<List<File>>> resolvedArtifacts = new ConcurrentHashMap<>();
+    private MavenDownloader downloader;
+    private Path cacheFile;
+    private Path localRepository;
+    private Path offlineRepository;
+
+    public MavenArtifactResolver() {
+    }
+
+    MavenArtifactResolver(MavenDownloader downloader) {
+        this.downloader = downloader;
+    }
+
+    /**
+     * The resolver shared by the version managers created without one. Its configuration is global to the JVM, so it
+     * is better left unchanged: a command resolving artifacts differently creates its own resolver instead.
+     */
+    public static MavenArtifactResolver getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Resolve the files of the given artifact, reusing a previous resolution when possible.
+     *
+     * @param gav          the artifact coordinates, e.g. "org.apache.camel:camel-catalog:4.16.0"
+     * @param repositories the extra repositories to resolve the artifact from
+     * @param useSnapshots whether to resolve snapshots
+     * @param transitive   whether to resolve the transitive dependencies as well
+     * @return the resolved files
+     */
+    public List<File> resolve(String gav, Set<String> repositories, boolean useSnapshots, boolean transitive)
+            throws MavenResolutionException {
+        Set<String> effectiveRepositories = getEffectiveRepositories(repositories);
+        if (gav.endsWith("SNAPSHOT")) {
+            return resolveArtifact(gav, effectiveRepositories, useSnapshots, transitive);
+        }
+
+        String key = String.join("|", gav, String.valueOf(transitive), String.valueOf(useSnapshots),
+                String.join(",", new TreeSet<>(effectiveRepositories)));
+        var resolvedArtifact = new CompletableFuture<List<File>>();
+
+        while (true) {
+            var existingResolvedArtifact = resolvedArtifacts.putIfAbsent(key, resolvedArtifact);
+            if (existingResolvedArtifact == null) {
+                break;
+            }
+
+            try {
+                var files = existingResolvedArtifact.join();
+                if (files.stream().allMatch(File::isFile)) {
+                    return files;
+                }
+            } catch (CompletionException e) {
+                // Resolved by another catalog which failed, so it is tried again below
+            }
+            resolvedArtifacts.remove(key, existingResolvedArtifact);
+        }
+
+        try {
+            var files = resolveArtifact(gav, effectiveRepositories, useSnapshots, transitive);
+            resolvedArtifact.complete(files);
+            return files;
+        } catch (MavenResolutionException | RuntimeException e) {
+            resolvedArtifacts.remove(key, resolvedArtifact);
+            resolvedArtifact.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    /**
+     * Resolve the files of the requested artifact and of the direct dependencies it asks for, reusing previous
+     * resolutions when possible.
+     *
+     * @param request the artifact to resolve
+     * @return the resolved files
+     */
+    public List<File> resolve(Request request) throws MavenResolutionException {
+        List<File> files = new ArrayList<>(resolve(request.gav(), request.repositories(), request.useSnapshots(),
+                request.transitive()));
+        if (request.dependencies().isEmpty()) {
+            return files;
+        }
+
+        Map<String, String> dependencyVersions = getDependencyVersions(request.gav(), request.repositories(),
+                request.useSnapshots());
+        for (String dependency : request.dependencies()) {
+            String version = dependencyVersions.get(dependency);
+            if (version == null) {
+                throw new MavenResolutionException(
+                        String.format("%s does not depend on %s", request.gav(), dependency));
+            }
+
+            files.addAll(resolve(dependency + ":" + version, request.repositories(),
+                    request.useSnapshots() || version.endsWith("SNAPSHOT"), false));
+        }
+        return files;
+    }
+
+    /**
+     * Read the versions of the direct dependencies of the given artifact from its effective POM, that is with its
+     * parents and imported BOMs applied. The POMs are resolved alone, the same way as the other artifacts.
+     *
+     * @param gav          the artifact coordinates, e.g. "org.apache.camel.quarkus:camel-quarkus-catalog:3.30.0"
+     * @param repositories the extra repositories to resolve the POMs from
+     * @param useSnapshots whether to resolve snapshots
+     * @return the dependency versions by "groupId:artifactId"
+     */
+    Map<String, String> getDependencyVersions(String gav, Set<String> repositories, boolean useSnapshots)
+            throws MavenResolutionException {
+        String[] coordinates = gav.split(":");
+        var modelResolver = new PomResolver(repositories, useSnapshots);
+
+        try {
+            ModelBuildingRequest modelBuildingRequest = new DefaultModelBuildingRequest()
+                    .setModelSource(modelResolver.resolveModel(coordinates[0], coordinates[1], coordinates[2]))
+                    .setModelResolver(modelResolver)
+                    .setValidationLevel(ModelBuildingRequest.VALIDATION_LEVEL_MINIMAL)
+                    .setProcessPlugins(false)
+                    .setSystemProperties(System.getProperties());
+
+            return new DefaultModelBuilderFactory().newInstance().build(modelBuildingRequest).getEffectiveModel()
+                    .getDependencies().stream()
+                    .filter(dependency -> dependency.getVersion() != null)
+                    .collect(Collectors.toMap(dependency -> dependency.getGroupId() + ":" + dependency.getArtifactId(),
+                            Dependency::getVersion, (version, otherVersion) -> version));
+        } catch (ModelBuildingException | UnresolvableModelException e) {
+            throw new MavenResolutionException("Cannot read the POM of " + gav, e);
+        }
+    }
+
+    /**
+     * Resolve the given artifacts concurrently ahead of time, so they are already resolved when the catalogs ask for
+     * them and the download latencies overlap instead of adding up. Each artifact is resolved on its own, as resolving
+     * them together would settle on a single version of the dependencies they share. Artifacts that cannot be
+     * resolved are logged and left for the catalogs to resolve again.
+     *
+     * @param requests the artifacts to resolve, duplicates are only resolved once
+     * @param executor the executor to resolve the artifacts on
+     * @return the number of artifacts resolved
+     */
+    public int resolveAll(Collection<Request> requests, Executor executor) {
+        var distinctRequests = new LinkedHashSet<>(requests);
+        var resolved = new AtomicInteger();
+        var completed = new AtomicInteger();
+
+        var futures = distinctRequests.stream().map(request -> CompletableFuture.runAsync(() -> {
+            try {
+                resolve(request);
+                resolved.incrementAndGet();
+                LOGGER.info(String.format("Resolved Maven artifact %d/%d: %s", completed.incrementAndGet(),
+                        distinctRequests.size(), request.gav()));
+            } catch (MavenResolutionException | RuntimeException e) {
+                LOGGER.log(Level.WARNING, String.format("Cannot resolve Maven artifact %d/%d: %s",
+                        completed.incrementAndGet(), distinctRequests.size(), request.gav()), e);
+            }
+        }, executor)).toArray(CompletableFuture[]::new);
+        CompletableFuture.allOf(futures).join();
+
+        return resolved.get();
+    }
+
+    private List<File> resolveArtifact(String gav, Set<String> repositories, boolean useSnapshots, boolean transitive)
+            throws MavenResolutionException {
+        List<MavenArtifact> artifacts = getDownloader().resolveArtifacts(Collections.singletonList(gav),
+                repositories, transitive, useSnapshots);
+
+        return artifacts.stream().map(MavenArtifact::getFile).toList();
+    }
+
+    private synchronized Set<String> getEffectiveRepositories(Set<String> repositories) {
+        return offlineRepository == null ? repositories : Set.of(offlineRepository.toUri().toString());
+    }
+
+    private synchronized MavenDownloader getDownloader() {
+        if (downloader == null) {
+            MavenDownloaderImpl mavenDownloader = new MavenDownloaderImpl();
+            if (offlineRepository != null) {
+                // Neither Maven Central nor the repositories of the Maven settings are reachable offline
+                mavenDownloader.setMavenSettingsLocation("false");
+                mavenDownloader.setMavenCentralEnabled(false);
+                mavenDownloader.setMavenApacheSnapshotEnabled(false);
+            }
+
+            mavenDownloader.build();
+
+            // A copy of the downloader resolves into another local repository, with the downloader default timeouts
+            downloader = localRepository == null ? mavenDownloader
+                    : mavenDownloader.customize(localRepository.toAbsolutePath().toString(), CONNECT_TIMEOUT,
+                            REQUEST_TIMEOUT);
+        }
+        return downloader;
+    }
+
+    public synchronized Path getLocalRepository() {
+        return localRepository;
+    }
+
+    /**
+     * Resolve the artifacts into the given local repository instead of the default one, e.g. to prepare a repository
+     * for {@link #setOfflineRepository(Path)}. It has to be set before the first artifact is resolved.
+     *
+     * @param localRepository the local repository folder, or {@code null} for the one of the Maven settings
+     */
+    public synchronized void setLocalRepository(Path localRepository) {
+        this.localRepository = localRepository;
+    }
+
+    public synchronized Path getOfflineRepository() {
+        return offlineRepository;
+    }
+
+    /**
+     * Resolve the artifacts only from the given folder, laid out as a Maven repository, e.g. one filled with
+     * {@link #setLocalRepository(Path)}. Maven Central, the repositories requested for the artifacts and the Maven
+     * settings are ignored, so nothing is downloaded. It has to be set before the first artifact is resolved.
+     *
+     * @param offlineRepository the repository folder, or {@code null} to resolve from the remote repositories
+     */
+    public synchronized void setOfflineRepository(Path offlineRepository) {
+        this.offlineRepository = offlineRepository;
+    }
+
+    public synchronized Path getCacheFile() {
+        return cacheFile;
+    }
+
+    /**
+     * Remember the artifacts resolved in a previous run, and persist the ones of this run with {@link #save()}.
+     *
+     * @param cacheFile the file to read and write the resolved artifacts from
+     */
+    public synchronized void setCacheFile(Path cacheFile) {
+        this.cacheFile = cacheFile;
+        if (cacheFile == null || !Files.isRegularFile(cacheFile)) {
+            return;
+        }
+
+        try {
+            Map<String, List<String>> cachedArtifacts = jsonMapper.readValue(cacheFile.toFile(),
+                    new TypeReference<>() {});
+            cachedArtifacts.forEach((key, fileNames) -> resolvedArtifacts.putIfAbsent(key,
+                    CompletableFuture.completedFuture(fileNames.stream().map(File::new).toList())));
+        } catch (IOException e) {
+            LOGGER.log(Level.WARNING, "Cannot read the resolved Maven artifacts from " + cacheFile, e);
+        }
+    }
+
+    /**
+     * Persist the resolved artifacts in the cache file, if any.
+     */
+    public synchronized void save() throws IOException {
+        if (cacheFile == null) {
+            return;
+        }
+
+        var cachedArtifacts = new TreeMap<String, List<String>>();
+        resolvedArtifacts.forEach((key, resolvedArtifact) -> {
+            if (resolvedArtifact.isDone() && !resolvedArtifact.isCompletedExceptionally()) {
+                cachedArtifacts.put(key, resolvedArtifact.join().stream().map(File::getAbsolutePath).toList());
+            }
+        });
+
+        Files.createDirectories(cacheFile.toAbsolutePath().getParent());
+        Path temporaryFile = Files.createTempFile(cacheFile.toAbsolutePath().getParent(),
+                cacheFile.getFileName().toString(), ".tmp");
+        try {
+            jsonMapper.writeValue(temporaryFile.toFile(), cachedArtifacts);
+            try {
+                Files.move(temporaryFile, cacheFile, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temporaryFile, cacheFile, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(temporaryFile);
+        }
+    }
+
+    /*
+     * Resolves the parents and imported BOMs of a POM. The repositories the POMs declare are ignored, like the ones of
+     * the dependency trees: the artifacts are only resolved from the requested repositories.
+     */
+    private class PomResolver implements ModelResolver {
+        private final Set<String> repositories;
+        private final boolean useSnapshots;
+
+        private PomResolver(Set<String> repositories, boolean useSnapshots) {
+            this.repositories = repositories;
+            this.useSnapshots = useSnapshots;
+        }
+
+        @Override
+        public ModelSource2 resolveModel(String groupId, String artifactId, String version)
+                throws UnresolvableModelException {
+            try {
+                List<File> files = resolve(String.format("%s:%s:pom:%s", groupId, artifactId, version), repositories,
+                        useSnapshots || version.endsWith("SNAPSHOT"), false);
+                return new FileModelSource(files.get(0));
+            } catch (MavenResolutionException | RuntimeException e) {
+                throw new UnresolvableModelException(e.getMessage(), groupId, artifactId, version, e);
+            }
+        }
+
+        @Override
+        public ModelSource2 resolveModel(Parent parent) throws UnresolvableModelException {
+            return resolveModel(parent.getGroupId(), parent.getArtifactId(), parent.getVersion());
+        }
+
+        @Override
+        public ModelSource2 resolveModel(Dependency dependency) throws UnresolvableModelException {
+            return resolveModel(dependency.getGroupId(), dependency.getArtifactId(), dependency.getVersion());
+        }
+
+        @Override
+        public void addRepository(Repository repository) {
+        }
+
+        @Override
+        public void addRepository(Repository repository, boolean replace) {
+        }
+
+        @Override
+        public ModelResolver newCopy() {
+            return this;
+        }
+    }
+}
@@ -0,0 +1,35 @@
+/*
+ * Copyright (C) 2025 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.kaoto.camelcatalog.maven;
+
+/**
+ * How much of the dependency tree of the loaded artifacts {@link KaotoMavenVersionManager} resolves and adds to its
+ * class loader.
+ */
+public enum ResolutionProfile {
+    /**
+     * Every artifact with its whole dependency tree, as the Camel catalog does. It is the default.
+     */
+    FULL,
+
+    /**
+     * Only the artifacts holding the resources the generator reads, each without its dependencies. A catalog also
+     * brings the Camel catalog jar it depends on, and a YAML DSL runtime provider the {@code camel-yaml-dsl} jar it
+     * depends on, at the versions their POMs declare. Any other artifact, e.g. the kamelets or the Camel K CRDs, comes
+     * alone.
+     */
+    TARGETED
+}
@@ -10,6 +10,7 @@ import java.nio.file.Files;
 import java.nio.file.Paths;
 import java.util.Enumeration;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Scanner;
 import java.util.jar.JarEntry;
@@ -48,9 +49,12 @@ public class ResourceLoader {
     public void loadResourcesFromFolderAsString(String resourceFolderName, Map<String, String> filesMap,
                                                 String fileSuffix) {
         ClassLoader classLoader = kaotoVersionManager.getClassLoader();
+        JarResourceIndex resourceIndex = JarResourceIndex.of(classLoader);
 
+        // The resolved jars are listed through the index, after the installed ones, so their resources win
         try {
-            Iterator<URL> it = classLoader.getResources(resourceFolderName).asIterator();
+            ClassLoader unindexedClassLoader = resourceIndex == null ? classLoader : classLoader.getParent();
+            Iterator<URL> it = unindexedClassLoader.getResources(resourceFolderName).asIterator();
 
             while (it.hasNext()) {
                 URL resourceUrl = it.next();
@@ -106,15 +110,50 @@ public class ResourceLoader {
         } catch (IOException e) {
             LOGGER.log(Level.SEVERE, e.toString(), e);
         }
+
+        if (resourceIndex != null) {
+            resourceIndex.getResources(resourceFolderName).forEach((name, url) -> {
+                if (!name.endsWith(fileSuffix)) {
+                    return;
+                }
+
+                if (verbose) {
+                    LOGGER.log(Level.FINE, () -> "Parsing: " + name);
+                }
+
+                try (InputStream inputStream = url.openStream()) {
+                    String filenameWithoutExtension = name.replace(resourceFolderName + "/", "")
+                            .replace(fileSuffix, "");
+                    filesMap.put(filenameWithoutExtension,
+                            new String(inputStream.readAllBytes(), StandardCharsets.UTF_8));
+                } catch (IOException e) {
+                    LOGGER.log(Level.SEVERE, e.toString(), e);
+                }
+            });
+        }
     }
 
     void configureRepositories(String version) {
-        if (kaotoVersionManager.repositories.get("central") == null) {
-            kaotoVersionManager.addMavenRepository("central", "https://repo1.maven.org/maven2/");
-        }
+        getRepositories(version).forEach((name, url) -> {
+            if (kaotoVersionManager.repositories.get(name) == null) {
+                kaotoVersionManager.addMavenRepository(name, url);
+            }
+        });
+    }
+
+    /**
+     * Get the Maven repositories to resolve the artifacts of the given catalog version from.
+     *
+     * @return the repository URLs by repository name
+     */
+    static Map<String, String> getRepositories(String version) {
+        Map<String, String> repositories = new LinkedHashMap<>();
+        repositories.put("central", "https://repo1.maven.org/maven2/");
 
-        if (version.contains("redhat") && kaotoVersionManager.repositories.get("maven.redhat.ga") == null) {
-            kaotoVersionManager.addMavenRepository("maven.redhat.ga", "https://maven.repository.redhat.com/ga/");
+        if (version.contains("redhat")) {
+            repositories.put("maven.redhat.ga", "https://maven.repository.redhat.com/ga/");
         }
+
+        return repositories;
     }
 }
@@ -29,6 +29,7 @@ public class Constants {
         public static final String CAMEL_YAML_DSL_PACKAGE = "camel-yaml-dsl";
         public static final String KAMELETS_PACKAGE = "camel-kamelets";
         public static final String CAMEL_K_CRDS_PACKAGE = "camel-k-crds";
+        public static final String CAMEL_K_CRDS_VERSION = "2.3.1";
 
         public static final String CAMEL_YAML_DSL_ARTIFACT = "schema/camelYamlDsl.json";
         public static final List<String> CAMEL_K_CRDS_ARTIFACTS = List.of(
@@ -28,6 +28,8 @@ import org.mockito.MockedStatic;
 
 import io.kaoto.camelcatalog.commands.GenerateCommand;
 import io.kaoto.camelcatalog.commands.GenerateCommandOptions;
+import io.kaoto.camelcatalog.commands.PrefetchCommand;
+import io.kaoto.camelcatalog.commands.PrefetchCommandOptions;
 import static io.kaoto.camelcatalog.Main.EXIT_CODE_SUCCESS;
 import static io.kaoto.camelcatalog.Main.EXIT_CODE_FAILURE;
 public class MainTest {
@@ -88,4 +90,62 @@ public class MainTest {
             assertEquals(EXIT_CODE_FAILURE, exitCode[0]);
         }
     }
+
+    @Test
+    public void testMainPrefetchExecution() throws Exception {
+        String[] args = { "prefetch", "--repo", "repoDir", "-m", "4.16.0" };
+        String[] prefetchArgs = { "--repo", "repoDir", "-m", "4.16.0" };
+        int[] exitCode = { 99 };
+
+        try (
+                MockedConstruction<PrefetchCommandOptions> mockedPrefetchCommandOptions = mockConstruction(
+                        PrefetchCommandOptions.class, (mock, context) -> {
+                            doNothing().when(mock).configure(prefetchArgs);
+                        });
+                MockedConstruction<PrefetchCommand> mockedPrefetchCommand = mockConstruction(PrefetchCommand.class,
+                        (mock, context) -> {
+                            doNothing().when(mock).run();
+                        });
+                MockedConstruction<GenerateCommand> mockedGenerateCommand = mockConstruction(GenerateCommand.class);
+                MockedStatic<Main> mockedMain = mockStatic(Main.class);) {
+            mockedMain.when(() -> Main.main(args)).thenCallRealMethod();
+            mockedMain.when(() -> Main.exit(EXIT_CODE_SUCCESS)).then(invocation -> {
+                exitCode[0] = EXIT_CODE_SUCCESS;
+                return null;
+            });
+
+            Main.main(args);
+
+            verify(mockedPrefetchCommandOptions.constructed().get(0)).configure(prefetchArgs);
+            verify(mockedPrefetchCommand.constructed().get(0)).run();
+            assertEquals(0, mockedGenerateCommand.constructed().size());
+            assertEquals(EXIT_CODE_SUCCESS, exitCode[0]);
+        }
+    }
+
+    @Test
+    public void testMainPrefetchFailure() throws Exception {
+        String[] args = { "prefetch", "--repo", "repoDir" };
+        int[] exitCode = { 99 };
+
+        try (
+                MockedConstruction<PrefetchCommandOptions> mockedPrefetchCommandOptions = mockConstruction(
+                        PrefetchCommandOptions.class);
+                MockedConstruction<PrefetchCommand> mockedPrefetchCommand = mockConstruction(PrefetchCommand.class,
+                        (mock, context) -> {
+                            doThrow(new RuntimeException("Cannot resolve 1 of 4 Maven artifacts")).when(mock).run();
+                        });
+                MockedStatic<Main> mockedMain = mockStatic(Main.class);) {
+            mockedMain.when(() -> Main.main(args)).thenCallRealMethod();
+            mockedMain.when(() -> Main.exit(EXIT_CODE_FAILURE)).then(invocation -> {
+                exitCode[0] = EXIT_CODE_FAILURE;
+                return null;
+            });
+
+            Main.main(args);
+
+            verify(mockedPrefetchCommand.constructed().get(0)).run();
+            assertEquals(EXIT_CODE_FAILURE, exitCode[0]);
+        }
+    }
 }
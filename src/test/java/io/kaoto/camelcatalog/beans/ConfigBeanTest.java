@@ -15,9 +15,12 @@
  */
 package io.kaoto.camelcatalog.beans;
 
+import io.kaoto.camelcatalog.maven.ResolutionProfile;
 import io.kaoto.camelcatalog.model.CatalogCliArgument;
 import org.junit.jupiter.api.Test;
 
+import java.io.File;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 class ConfigBeanTest {
@@ -87,4 +90,47 @@ class ConfigBeanTest {
             configBean.setVerbose(true);
             assertTrue(configBean.isVerbose());
         }
-}
\ No newline at end of file
+
+        @Test
+        void testSetCacheFolder() {
+            ConfigBean configBean = new ConfigBean();
+            assertNull(configBean.getCacheFolder());
+
+            configBean.setCacheFolder("/tmp/cache");
+            assertEquals(new File("/tmp/cache"), configBean.getCacheFolder());
+        }
+
+        @Test
+        void testGetJobs() {
+            ConfigBean configBean = new ConfigBean();
+            assertEquals(1, configBean.getJobs());
+        }
+
+        @Test
+        void testSetJobs() {
+            ConfigBean configBean = new ConfigBean();
+            configBean.setJobs(4);
+            assertEquals(4, configBean.getJobs());
+        }
+
+        @Test
+        void testSetRepositoryFolder() {
+            ConfigBean configBean = new ConfigBean();
+            assertNull(configBean.getRepositoryFolder());
+            assertFalse(configBean.isOffline());
+
+            configBean.setRepositoryFolder("/tmp/repository");
+            configBean.setOffline(true);
+            assertEquals(new File("/tmp/repository"), configBean.getRepositoryFolder());
+            assertTrue(configBean.isOffline());
+        }
+
+        @Test
+        void testSetResolutionProfile() {
+            ConfigBean configBean = new ConfigBean();
+            assertEquals(ResolutionProfile.FULL, configBean.getResolutionProfile());
+
+            configBean.setResolutionProfile(ResolutionProfile.TARGETED);
+            assertEquals(ResolutionProfile.TARGETED, configBean.getResolutionProfile());
+        }
+}
@@ -17,6 +17,7 @@ package io.kaoto.camelcatalog.commands;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.spy;
@@ -30,6 +31,7 @@ import org.junit.jupiter.api.Test;
 
 import io.kaoto.camelcatalog.beans.ConfigBean;
 import io.kaoto.camelcatalog.generator.Util;
+import io.kaoto.camelcatalog.maven.ResolutionProfile;
 
 public class GenerateCommandOptionsTest {
     @Test
@@ -120,4 +122,136 @@ public class GenerateCommandOptionsTest {
         assertTrue(configBean.getCatalogVersionSet().size() == 3);
 
     }
+
+    @Test
+    public void testConfigureWithCache() throws ParseException {
+        ConfigBean configBean = new ConfigBean();
+        GenerateCommandOptions generateCommandOptions = new GenerateCommandOptions(configBean);
+        String[] args = { "-o", "outputDir", "-n", "catalogName", "-m", "mainVersion", "-c", "cacheDir" };
+
+        generateCommandOptions.configure(args);
+
+        assertEquals(Util.getNormalizedFolder("cacheDir"), configBean.getCacheFolder().toPath().toString());
+    }
+
+    @Test
+    public void testConfigureWithoutCache() throws ParseException {
+        ConfigBean configBean = new ConfigBean();
+        GenerateCommandOptions generateCommandOptions = new GenerateCommandOptions(configBean);
+        String[] args = { "-o", "outputDir", "-n", "catalogName", "-m", "mainVersion" };
+
+        generateCommandOptions.configure(args);
+
+        assertNull(configBean.getCacheFolder());
+    }
+
+    @Test
+    public void testConfigureWithJobs() throws ParseException {
+        ConfigBean configBean = new ConfigBean();
+        GenerateCommandOptions generateCommandOptions = new GenerateCommandOptions(configBean);
+        String[] args = { "-o", "outputDir", "-n", "catalogName", "-m", "mainVersion", "-j", "4" };
+
+        generateCommandOptions.configure(args);
+
+        assertEquals(4, configBean.getJobs());
+    }
+
+    @Test
+    public void testConfigureWithoutJobs() throws ParseException {
+        ConfigBean configBean = new ConfigBean();
+        GenerateCommandOptions generateCommandOptions = new GenerateCommandOptions(configBean);
+        String[] args = { "-o", "outputDir", "-n", "catalogName", "-m", "mainVersion" };
+
+        generateCommandOptions.configure(args);
+
+        assertEquals(1, configBean.getJobs());
+    }
+
+    @Test
+    public void testConfigureWithInvalidJobs() {
+        ConfigBean configBean = new ConfigBean();
+        GenerateCommandOptions generateCommandOptions = new GenerateCommandOptions(configBean);
+        String[] args = { "-o", "outputDir", "-n", "catalogName", "-m", "mainVersion", "-j", "0" };
+
+        Exception exception = assertThrows(ParseException.class, () -> {
+            generateCommandOptions.configure(args);
+        });
+
+        assertTrue(exception.getMessage().contains("The number of jobs must be greater than zero"));
+    }
+
+    @Test
+    public void testConfigureOffline() throws ParseException {
+        ConfigBean configBean = new ConfigBean();
+        GenerateCommandOptions generateCommandOptions = new GenerateCommandOptions(configBean);
+        String[] args = { "-o", "outputDir", "-n", "catalogName", "-m", "mainVersion", "--offline", "--repo",
+                "repoDir" };
+
+        generateCommandOptions.configure(args);
+
+        assertTrue(configBean.isOffline());
+        assertEquals(Util.getNormalizedFolder("repoDir"), configBean.getRepositoryFolder().toPath().toString());
+    }
+
+    @Test
+    public void testConfigureOfflineWithoutRepository() {
+        ConfigBean configBean = new ConfigBean();
+        GenerateCommandOptions generateCommandOptions = new GenerateCommandOptions(configBean);
+        String[] args = { "-o", "outputDir", "-n", "catalogName", "-m", "mainVersion", "--offline" };
+
+        Exception exception = assertThrows(ParseException.class, () -> {
+            generateCommandOptions.configure(args);
+        });
+
+        assertTrue(exception.getMessage().contains("The --offline and --repo options must be used together"));
+    }
+
+    @Test
+    public void testConfigureOfflineWithKubernetesSchemaUrl() {
+        ConfigBean configBean = new ConfigBean();
+        GenerateCommandOptions generateCommandOptions = new GenerateCommandOptions(configBean);
+        String[] args = { "-o", "outputDir", "-n", "catalogName", "-m", "mainVersion", "--offline", "--repo",
+                "repoDir", "--k8s-schema-url", "https://example.com/api__v1_openapi.json" };
+
+        Exception exception = assertThrows(ParseException.class, () -> {
+            generateCommandOptions.configure(args);
+        });
+
+        assertTrue(exception.getMessage().contains("cannot be downloaded offline"));
+    }
+
+    @Test
+    public void testConfigureWithResolutionProfile() throws ParseException {
+        ConfigBean configBean = new ConfigBean();
+        GenerateCommandOptions generateCommandOptions = new GenerateCommandOptions(configBean);
+        String[] args = { "-o", "outputDir", "-n", "catalogName", "-m", "mainVersion", "--resolution", "targeted" };
+
+        generateCommandOptions.configure(args);
+
+        assertEquals(ResolutionProfile.TARGETED, configBean.getResolutionProfile());
+    }
+
+    @Test
+    public void testConfigureWithoutResolutionProfile() throws ParseException {
+        ConfigBean configBean = new ConfigBean();
+        GenerateCommandOptions generateCommandOptions = new GenerateCommandOptions(configBean);
+        String[] args = { "-o", "outputDir", "-n", "catalogName", "-m", "mainVersion" };
+
+        generateCommandOptions.configure(args);
+
+        assertEquals(ResolutionProfile.FULL, configBean.getResolutionProfile());
+    }
+
+    @Test
+    public void testConfigureWithInvalidResolutionProfile() {
+        ConfigBean configBean = new ConfigBean();
+        GenerateCommandOptions generateCommandOptions = new GenerateCommandOptions(configBean);
+        String[] args = { "-o", "outputDir", "-n", "catalogName", "-m", "mainVersion", "--resolution", "partial" };
+
+        Exception exception = assertThrows(ParseException.class, () -> {
+            generateCommandOptions.configure(args);
+        });
+
+        assertTrue(exception.getMessage().contains("The resolution profile must be"));
+    }
 }
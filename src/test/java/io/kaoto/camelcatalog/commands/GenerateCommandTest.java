@@ -15,9 +15,11 @@
  */
 package io.kaoto.camelcatalog.commands;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.kaoto.camelcatalog.beans.ConfigBean;
 import io.kaoto.camelcatalog.generator.CatalogGenerator;
 import io.kaoto.camelcatalog.generator.CatalogGeneratorBuilder;
+import io.kaoto.camelcatalog.maven.MavenArtifactResolver;
 import io.kaoto.camelcatalog.model.*;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -25,6 +27,7 @@ import org.junit.jupiter.api.io.TempDir;
 
 import java.io.File;
 import java.util.ArrayList;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.Mockito.*;
@@ -67,6 +70,12 @@ class GenerateCommandTest {
             when(mockBuilder.withVerbose(anyBoolean())).thenCallRealMethod().thenReturn(mockBuilder);
 
             when(mockBuilder.withOutputDirectory(any(File.class))).thenReturn(mockBuilder);
+            when(mockBuilder.withCacheDirectory(any())).thenReturn(mockBuilder);
+            when(mockBuilder.withExecutor(any())).thenReturn(mockBuilder);
+            when(mockBuilder.withArtifactStore(any())).thenReturn(mockBuilder);
+            when(mockBuilder.withKubernetesSchemaSource(any())).thenReturn(mockBuilder);
+            when(mockBuilder.withResolutionProfile(any())).thenReturn(mockBuilder);
+            when(mockBuilder.withArtifactResolver(any())).thenReturn(mockBuilder);
             when(mockBuilder.build()).thenAnswer(invocation -> {
                 CatalogGenerator catalogGenerator = mock(CatalogGenerator.class);
                 when(catalogGenerator.generate()).thenReturn(catalogDefinition);
@@ -81,6 +90,7 @@ class GenerateCommandTest {
             verify(builder, times(1)).withCamelCatalogVersion("4.8.0");
             verify(builder, times(1)).withKameletsVersion("1.0.0");
             verify(builder, times(1)).withCamelKCRDsVersion("2.3.1");
+            verify(builder, times(1)).withArtifactResolver(any(MavenArtifactResolver.class));
 
             File expectedFolder = new File(tempDir, "camel-main/4.8.0");
             verify(builder, times(1)).withOutputDirectory(expectedFolder);
@@ -107,6 +117,12 @@ class GenerateCommandTest {
                     when(mockBuilder.withVerbose(anyBoolean())).thenCallRealMethod().thenReturn(mockBuilder);
 
                     when(mockBuilder.withOutputDirectory(any(File.class))).thenReturn(mockBuilder);
+                    when(mockBuilder.withCacheDirectory(any())).thenReturn(mockBuilder);
+                    when(mockBuilder.withExecutor(any())).thenReturn(mockBuilder);
+                    when(mockBuilder.withArtifactStore(any())).thenReturn(mockBuilder);
+                    when(mockBuilder.withKubernetesSchemaSource(any())).thenReturn(mockBuilder);
+                    when(mockBuilder.withResolutionProfile(any())).thenReturn(mockBuilder);
+                    when(mockBuilder.withArtifactResolver(any())).thenReturn(mockBuilder);
                     when(mockBuilder.build()).thenAnswer(invocation -> {
                         CatalogGenerator catalogGenerator = mock(CatalogGenerator.class);
                         when(catalogGenerator.generate()).thenReturn(catalogDefinition);
@@ -141,4 +157,66 @@ class GenerateCommandTest {
             assertEquals(expectedFile, catalogLibraryEntry.fileName());
         }
     }
+
+    @Test
+    void testParallelGenerationKeepsCatalogOrder() throws Exception {
+        List<String> versions = List.of("4.8.0", "4.4.0", "4.10.0");
+
+        ConfigBean configBean = new ConfigBean();
+        configBean.setOutputFolder(tempDir.toString());
+        configBean.setCatalogsName("test-camel-catalog");
+        configBean.setKameletsVersion("1.0.0");
+        configBean.setJobs(3);
+        versions.forEach(version -> configBean.addCatalogVersion(new CatalogCliArgument(CatalogRuntime.Main, version)));
+
+        try (var mockedBuilder = mockConstruction(CatalogGeneratorBuilder.class, (mockBuilder, context) -> {
+            var ref = new Object() {
+                String version = null;
+            };
+
+            when(mockBuilder.withRuntime(any(CatalogRuntime.class))).thenReturn(mockBuilder);
+            when(mockBuilder.withCamelCatalogVersion(anyString())).thenAnswer(invocation -> {
+                ref.version = invocation.getArgument(0);
+                return mockBuilder;
+            });
+            when(mockBuilder.withKameletsVersion(anyString())).thenReturn(mockBuilder);
+            when(mockBuilder.withCamelKCRDsVersion(anyString())).thenReturn(mockBuilder);
+            when(mockBuilder.withVerbose(anyBoolean())).thenReturn(mockBuilder);
+            when(mockBuilder.withOutputDirectory(any(File.class))).thenReturn(mockBuilder);
+            when(mockBuilder.withCacheDirectory(any())).thenReturn(mockBuilder);
+            when(mockBuilder.withExecutor(any())).thenReturn(mockBuilder);
+            when(mockBuilder.withArtifactStore(any())).thenReturn(mockBuilder);
+            when(mockBuilder.withKubernetesSchemaSource(any())).thenReturn(mockBuilder);
+            when(mockBuilder.withResolutionProfile(any())).thenReturn(mockBuilder);
+            when(mockBuilder.withArtifactResolver(any())).thenReturn(mockBuilder);
+            when(mockBuilder.build()).thenAnswer(invocation -> {
+                CatalogGenerator catalogGenerator = mock(CatalogGenerator.class);
+                when(catalogGenerator.generate()).thenAnswer(generateInvocation -> {
+                    /* The first catalog finishes last */
+                    Thread.sleep(versions.indexOf(ref.version) == 0 ? 200 : 0);
+
+                    CatalogDefinition definition = new CatalogDefinition();
+                    definition.setFileName("index.json");
+                    definition.setName("Camel Main " + ref.version);
+                    definition.setVersion(ref.version);
+                    definition.setRuntime(CatalogRuntime.Main);
+                    return definition;
+                });
+                return catalogGenerator;
+            });
+        })) {
+            new GenerateCommand(configBean).run();
+
+            assertEquals(3, mockedBuilder.constructed().size());
+
+            var index = new ObjectMapper().readTree(new File(tempDir, "index.json"));
+            var definitions = index.get("definitions");
+            assertEquals(3, definitions.size());
+            for (int i = 0; i < versions.size(); i++) {
+                assertEquals(versions.get(i), definitions.get(i).get("version").asText());
+                assertEquals("camel-main/" + versions.get(i) + "/index.json",
+                        definitions.get(i).get("fileName").asText());
+            }
+        }
+    }
 }
@@ -0,0 +1,71 @@
+package io.kaoto.camelcatalog.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.apache.commons.cli.ParseException;
+import org.junit.jupiter.api.Test;
+
+import io.kaoto.camelcatalog.beans.ConfigBean;
+import io.kaoto.camelcatalog.generator.Util;
+import io.kaoto.camelcatalog.maven.ResolutionProfile;
+import io.kaoto.camelcatalog.model.CatalogCliArgument;
+import io.kaoto.camelcatalog.model.CatalogRuntime;
+
+public class PrefetchCommandOptionsTest {
+    @Test
+    public void testConfigure() throws ParseException {
+        ConfigBean configBean = new ConfigBean();
+        PrefetchCommandOptions prefetchCommandOptions = new PrefetchCommandOptions(configBean);
+        String[] args = { "--repo", "repoDir", "-k", "kameletsVersion", "-m", "mainVersion", "-q", "quarkusVersion",
+                "-j", "4" };
+
+        prefetchCommandOptions.configure(args);
+
+        assertEquals(Util.getNormalizedFolder("repoDir"), configBean.getRepositoryFolder().toPath().toString());
+        assertEquals("kameletsVersion", configBean.getKameletsVersion());
+        assertEquals(4, configBean.getJobs());
+        assertNull(configBean.getKubernetesSchemaUrl());
+        assertEquals(ResolutionProfile.FULL, configBean.getResolutionProfile());
+        assertEquals(2, configBean.getCatalogVersionSet().size());
+        assertTrue(configBean.getCatalogVersionSet()
+                .contains(new CatalogCliArgument(CatalogRuntime.Quarkus, "quarkusVersion")));
+    }
+
+    @Test
+    public void testConfigureWithoutRepository() {
+        ConfigBean configBean = new ConfigBean();
+        PrefetchCommandOptions prefetchCommandOptions = new PrefetchCommandOptions(configBean);
+        String[] args = { "-m", "mainVersion" };
+
+        Exception exception = assertThrows(ParseException.class, () -> {
+            prefetchCommandOptions.configure(args);
+        });
+
+        assertTrue(exception.getMessage().contains("Missing required option"));
+    }
+
+    @Test
+    public void testConfigureWithResolutionProfile() throws ParseException {
+        ConfigBean configBean = new ConfigBean();
+        PrefetchCommandOptions prefetchCommandOptions = new PrefetchCommandOptions(configBean);
+        String[] args = { "--repo", "repoDir", "--resolution", "TARGETED" };
+
+        prefetchCommandOptions.configure(args);
+
+        assertEquals(ResolutionProfile.TARGETED, configBean.getResolutionProfile());
+    }
+
+    @Test
+    public void testAddDefaultVersions() throws ParseException {
+        ConfigBean configBean = new ConfigBean();
+        PrefetchCommandOptions prefetchCommandOptions = new PrefetchCommandOptions(configBean);
+        String[] args = { "--repo", "repoDir" };
+
+        prefetchCommandOptions.configure(args);
+
+        assertEquals(3, configBean.getCatalogVersionSet().size());
+    }
+}
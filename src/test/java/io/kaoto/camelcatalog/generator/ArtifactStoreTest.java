@@ -0,0 +1,97 @@
+/*
+ * Copyright (C) 2025 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.kaoto.camelcatalog.generator;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ArtifactStoreTest {
+    @TempDir
+    Path outputDirectory;
+
+    @Test
+    void testLinkSameContent() throws Exception {
+        var artifactStore = new ArtifactStore();
+        var mainFolder = outputDirectory.resolve("camel-main");
+        var quarkusFolder = outputDirectory.resolve("camel-quarkus");
+
+        var mainFileName = artifactStore.write(null, mainFolder, "schema", ".json",
+                outputStream -> outputStream.write("{}".getBytes()));
+        var quarkusFileName = artifactStore.write(null, quarkusFolder, "schema", ".json",
+                outputStream -> outputStream.write("{}".getBytes()));
+
+        assertEquals("schema-" + Util.generateHash("{}") + ".json", mainFileName);
+        assertEquals(mainFileName, quarkusFileName);
+        assertEquals("{}", Files.readString(quarkusFolder.resolve(quarkusFileName)));
+        assertTrue(Files.isSameFile(mainFolder.resolve(mainFileName), quarkusFolder.resolve(quarkusFileName)));
+    }
+
+    @Test
+    void testKeepDifferentContent() throws Exception {
+        var artifactStore = new ArtifactStore();
+        var mainFolder = outputDirectory.resolve("camel-main");
+        var quarkusFolder = outputDirectory.resolve("camel-quarkus");
+
+        var mainFileName = artifactStore.write(null, mainFolder, "schema", ".json",
+                outputStream -> outputStream.write("{}".getBytes()));
+        var quarkusFileName = artifactStore.write(null, quarkusFolder, "schema", ".json",
+                outputStream -> outputStream.write("[]".getBytes()));
+
+        assertNotEquals(mainFileName, quarkusFileName);
+        assertEquals("[]", Files.readString(quarkusFolder.resolve(quarkusFileName)));
+    }
+
+    @Test
+    void testBuildSourceOnce() throws Exception {
+        var artifactStore = new ArtifactStore();
+        var mainFolder = outputDirectory.resolve("camel-main");
+        var quarkusFolder = outputDirectory.resolve("camel-quarkus");
+        var builds = new AtomicInteger();
+
+        var mainFileName = artifactStore.write("kamelets/4.16.0", mainFolder, "kamelets-aggregate", ".json",
+                outputStream -> outputStream.write(("{\"builds\":" + builds.incrementAndGet() + "}").getBytes()));
+        var quarkusFileName = artifactStore.write("kamelets/4.16.0", quarkusFolder, "kamelets-aggregate", ".json",
+                outputStream -> outputStream.write(("{\"builds\":" + builds.incrementAndGet() + "}").getBytes()));
+
+        assertEquals(1, builds.get());
+        assertEquals(mainFileName, quarkusFileName);
+        assertEquals("{\"builds\":1}", Files.readString(quarkusFolder.resolve(quarkusFileName)));
+    }
+
+    @Test
+    void testRetrySourceAfterFailure() throws Exception {
+        var artifactStore = new ArtifactStore();
+
+        assertThrows(IllegalStateException.class, () -> artifactStore.write("kamelets/4.16.0", outputDirectory,
+                "kamelets-aggregate", ".json", outputStream -> {
+                    throw new IllegalStateException("Kamelets are not loaded");
+                }));
+
+        var fileName = artifactStore.write("kamelets/4.16.0", outputDirectory, "kamelets-aggregate", ".json",
+                outputStream -> outputStream.write("{}".getBytes()));
+
+        assertEquals("{}", Files.readString(outputDirectory.resolve(fileName)));
+        try (var files = Files.list(outputDirectory)) {
+            assertEquals(1, files.count());
+        }
+    }
+}
@@ -27,6 +27,7 @@ import io.kaoto.camelcatalog.model.CatalogRuntime;
 import org.apache.camel.catalog.CamelCatalog;
 import org.apache.camel.catalog.DefaultCamelCatalog;
 import org.apache.camel.dsl.yaml.YamlRoutesBuilderLoader;
+import org.apache.camel.tooling.model.JsonMapper;
 import org.junit.jupiter.api.Test;
 
 import java.nio.charset.StandardCharsets;
@@ -34,6 +35,8 @@ import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -55,7 +58,7 @@ class CamelCatalogProcessorTest {
         ObjectMapper jsonMapper = new ObjectMapper();
         var is = YamlRoutesBuilderLoader.class.getClassLoader().getResourceAsStream("schema/camelYamlDsl.json");
         ObjectNode yamlDslSchema = (ObjectNode) jsonMapper.readTree(is);
-        var openapiSpecIS = getClass().getClassLoader().getResourceAsStream("kubernetes-api-v1-openapi.json");
+        var openapiSpecIS = getClass().getClassLoader().getResourceAsStream("kubernetes/kubernetes-api-v1-openapi.json");
         if (openapiSpecIS == null) {
             throw new Exception("Failed to load kubernetes-api-v1-openapi.json");
         }
@@ -111,6 +114,22 @@ class CamelCatalogProcessorTest {
         assertEquals(processor.getLoadBalancerCatalog(), catalogMap.get("loadbalancers"));
     }
 
+    @Test
+    void testProcessCatalogConcurrently() throws Exception {
+        var expectedCatalogMap = processor.processCatalog();
+
+        ExecutorService executorService = Executors.newFixedThreadPool(4);
+        try {
+            processor.setExecutor(executorService);
+            var catalogMap = processor.processCatalog();
+            assertEquals(List.copyOf(expectedCatalogMap.keySet()), List.copyOf(catalogMap.keySet()));
+            assertEquals(expectedCatalogMap, catalogMap);
+        } finally {
+            processor.setExecutor(null);
+            executorService.shutdownNow();
+        }
+    }
+
     @Test
     void testGetComponentCatalog() throws Exception {
         assertTrue(componentCatalog.size() > 300);
@@ -292,6 +311,13 @@ class CamelCatalogProcessorTest {
         assertEquals("Aggregate", aggregateModel.get("title").asText());
     }
 
+    @Test
+    void testGetModelCatalogKeepsCamelModelLayout() throws Exception {
+        var camelModel = JsonMapper.asJsonObject(new DefaultCamelCatalog().eipModel("setHeader")).toJson();
+
+        assertEquals(new ObjectMapper().readTree(camelModel).toString(), modelCatalog.get("setHeader").toString());
+    }
+
     @Test
     void testModelEnumParameter() throws Exception {
         checkEnumParameters(modelCatalog);
@@ -17,11 +17,16 @@ package io.kaoto.camelcatalog.generator;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Random;
+import java.util.stream.IntStream;
 
 import org.apache.camel.catalog.DefaultCamelCatalog;
 import org.apache.camel.tooling.model.EipModel;
+import org.apache.camel.tooling.model.EipModel.EipOptionModel;
 import org.apache.camel.tooling.model.Kind;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -65,4 +70,36 @@ class CamelYamlDSLKeysComparatorTest {
         assertEquals(result, expected);
     }
 
+    @Test
+    void sort_unknown_keys_last() {
+        Comparator<String> comparator = new CamelYamlDSLKeysComparator(List.of(createOption("second", 1),
+                createOption("first", 0)));
+
+        List<String> result = List.of("unknown", "second", "other", "first").stream().sorted(comparator).toList();
+
+        assertEquals(List.of("first", "second", "unknown", "other"), result);
+    }
+
+    @Test
+    void sort_keys_of_a_large_model() {
+        int size = 5000;
+        List<EipOptionModel> options = new ArrayList<>();
+        IntStream.range(0, size).forEach(index -> options.add(createOption("option" + index, index)));
+        Collections.reverse(options);
+        List<String> expected = IntStream.range(0, size).mapToObj(index -> "option" + index).toList();
+        List<String> keys = new ArrayList<>(expected);
+        Collections.shuffle(keys, new Random(42));
+
+        List<String> result = keys.stream().sorted(new CamelYamlDSLKeysComparator(options)).toList();
+
+        assertEquals(expected, result);
+    }
+
+    private EipOptionModel createOption(String name, int index) {
+        EipOptionModel option = new EipOptionModel();
+        option.setName(name);
+        option.setIndex(index);
+        return option;
+    }
+
 }
@@ -213,4 +213,20 @@ class CamelYamlDslSchemaProcessorTest {
         assertEquals("string", customLbRefProp.get("type").asText());
         assertEquals("Ref", customLbRefProp.get("title").asText());
     }
+
+    @Test
+    void shouldNotShareDefinitionsBetweenExtractions() throws Exception {
+        var languages = processor.getLanguages();
+        var expected = languages.get("simple").deepCopy();
+        languages.get("simple").withObject("/properties").removeAll();
+
+        var loadBalancers = processor.getLoadBalancers();
+        var stickyLanguages = loadBalancers.get("stickyLoadBalancer").withObject("/definitions");
+
+        assertNotSame(languages.get("simple"), processor.getLanguages().get("simple"));
+        assertEquals(expected, processor.getLanguages().get("simple"));
+        assertEquals(expected.get("properties"),
+                stickyLanguages.withObject("/org.apache.camel.model.language.SimpleExpression")
+                        .withArray("/oneOf").get(1).get("properties"));
+    }
 }
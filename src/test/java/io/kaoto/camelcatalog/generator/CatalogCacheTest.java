@@ -0,0 +1,118 @@
+/*
+ * Copyright (C) 2023 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.kaoto.camelcatalog.generator;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.kaoto.camelcatalog.model.CatalogDefinition;
+import io.kaoto.camelcatalog.model.CatalogDefinitionEntry;
+import io.kaoto.camelcatalog.model.CatalogRuntime;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CatalogCacheTest {
+    @TempDir
+    File tempDir;
+
+    private CatalogCache catalogCache;
+
+    @BeforeEach
+    void setUp() {
+        catalogCache = new CatalogCache(new File(tempDir, "cache"));
+    }
+
+    @Test
+    void shouldComputeStableKeys() throws Exception {
+        var key = catalogCache.getKey(Arrays.asList("Main", "4.16.0", null),
+                Map.of("schemas", Map.of("a", "1", "b", "2")));
+        var sameKey = catalogCache.getKey(Arrays.asList("Main", "4.16.0", null),
+                Map.of("schemas", Map.of("b", "2", "a", "1")));
+
+        assertEquals(key, sameKey);
+    }
+
+    @Test
+    void shouldChangeKeyWhenInputsChange() throws Exception {
+        var key = catalogCache.getKey(Arrays.asList("Main", "4.16.0"), Map.of("schemas", Map.of("a", "1")));
+
+        assertNotEquals(key, catalogCache.getKey(Arrays.asList("Main", "4.16.1"), Map.of("schemas", Map.of("a", "1"))));
+        assertNotEquals(key, catalogCache.getKey(Arrays.asList("Main", "4.16.0"), Map.of("schemas", Map.of("a", "2"))));
+        assertNotEquals(key, catalogCache.getKey(Arrays.asList("Main4", ".16.0"), Map.of("schemas", Map.of("a", "1"))));
+    }
+
+    @Test
+    void shouldReturnNullOnMiss() {
+        assertFalse(catalogCache.contains("missing"));
+        assertNull(catalogCache.restore("missing", new File(tempDir, "output")));
+    }
+
+    @Test
+    void shouldRestoreStoredCatalog() throws Exception {
+        var catalogDefinition = new CatalogDefinition();
+        catalogDefinition.setName("Camel Main 4.16.0");
+        catalogDefinition.setVersion("4.16.0");
+        catalogDefinition.setRuntime(CatalogRuntime.Main);
+        catalogDefinition.getCatalogs().put("components",
+                new CatalogDefinitionEntry("components", "Aggregated Camel catalog for components", "4.16.0",
+                        "camel-catalog-aggregate-components-123.json"));
+
+        var generatedFolder = new File(tempDir, "generated");
+        generatedFolder.mkdirs();
+        new ObjectMapper().writeValue(new File(generatedFolder, "index-456.json"), catalogDefinition);
+        Files.writeString(generatedFolder.toPath().resolve("camel-catalog-aggregate-components-123.json"), "{}");
+
+        catalogCache.store("key", generatedFolder);
+        assertTrue(catalogCache.contains("key"));
+
+        var outputFolder = new File(tempDir, "output");
+        var restoredDefinition = catalogCache.restore("key", outputFolder);
+
+        assertNotNull(restoredDefinition);
+        assertEquals("index-456.json", restoredDefinition.getFileName());
+        assertEquals("Camel Main 4.16.0", restoredDefinition.getName());
+        assertEquals(CatalogRuntime.Main, restoredDefinition.getRuntime());
+        assertEquals("camel-catalog-aggregate-components-123.json",
+                restoredDefinition.getCatalogs().get("components").file());
+        assertEquals("{}",
+                Files.readString(outputFolder.toPath().resolve("camel-catalog-aggregate-components-123.json")));
+        assertTrue(new File(outputFolder, "index-456.json").exists());
+    }
+
+    @Test
+    void shouldKeepExistingEntry() throws Exception {
+        var firstFolder = new File(tempDir, "first");
+        firstFolder.mkdirs();
+        Files.writeString(firstFolder.toPath().resolve("index-1.json"), "{\"name\":\"first\"}");
+        var secondFolder = new File(tempDir, "second");
+        secondFolder.mkdirs();
+        Files.writeString(secondFolder.toPath().resolve("index-2.json"), "{\"name\":\"second\"}");
+
+        catalogCache.store("key", firstFolder);
+        catalogCache.store("key", secondFolder);
+
+        var restoredDefinition = catalogCache.restore("key", new File(tempDir, "output"));
+
+        assertEquals("first", restoredDefinition.getName());
+        assertEquals(1, catalogCache.getCacheDirectory().list().length);
+    }
+}
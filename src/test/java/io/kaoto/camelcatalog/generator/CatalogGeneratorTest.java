@@ -0,0 +1,77 @@
+/*
+ * Copyright (C) 2025 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.kaoto.camelcatalog.generator;
+
+import io.kaoto.camelcatalog.model.CatalogRuntime;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class CatalogGeneratorTest {
+    @TempDir
+    File tempDir;
+
+    private CatalogCache catalogCache;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        catalogCache = mock(CatalogCache.class);
+        when(catalogCache.getKey(anyList(), anyMap())).thenReturn("key");
+        when(catalogCache.contains("key")).thenReturn(true);
+    }
+
+    @Test
+    void shouldSkipTheArtifactsOfCachedCatalogs() {
+        var catalogGenerator = getCatalogGenerator("4.16.0", "4.16.0");
+
+        assertEquals(List.of(), catalogGenerator.getArtifactRequests());
+    }
+
+    @Test
+    void shouldNotCacheSnapshotCatalogs() {
+        var catalogGenerator = getCatalogGenerator("4.17.0-SNAPSHOT", "4.16.0");
+
+        assertFalse(catalogGenerator.getArtifactRequests().isEmpty());
+        verify(catalogCache, never()).contains(anyString());
+    }
+
+    @Test
+    void shouldNotCacheSnapshotKamelets() {
+        var catalogGenerator = getCatalogGenerator("4.16.0", "4.17.0-SNAPSHOT");
+
+        assertFalse(catalogGenerator.getArtifactRequests().isEmpty());
+        verify(catalogCache, never()).contains(anyString());
+    }
+
+    private CatalogGenerator getCatalogGenerator(String camelCatalogVersion, String kameletsVersion) {
+        var catalogGenerator = new CatalogGeneratorBuilder()
+                .withRuntime(CatalogRuntime.Main)
+                .withCamelCatalogVersion(camelCatalogVersion)
+                .withKameletsVersion(kameletsVersion)
+                .withCamelKCRDsVersion("2.3.1")
+                .withOutputDirectory(tempDir)
+                .build();
+        catalogGenerator.setCatalogCache(catalogCache);
+
+        return catalogGenerator;
+    }
+}
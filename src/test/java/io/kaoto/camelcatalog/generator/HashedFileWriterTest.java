@@ -0,0 +1,59 @@
+/*
+ * Copyright (C) 2025 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.kaoto.camelcatalog.generator;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HashedFileWriterTest {
+    @TempDir
+    Path outputDirectory;
+
+    @Test
+    void testCommit() throws Exception {
+        var node = Map.of("name", "timer");
+        var expectedContent = Util.getPrettyJSON(node);
+
+        String fileName;
+        try (var writer = new HashedFileWriter(outputDirectory, "index", ".json")) {
+            Util.writePrettyJSON(node, writer.getOutputStream());
+            fileName = writer.commit();
+        }
+
+        assertEquals("index-" + Util.generateHash(expectedContent) + ".json", fileName);
+        assertEquals(expectedContent, Files.readString(outputDirectory.resolve(fileName)));
+        try (var files = Files.list(outputDirectory)) {
+            assertEquals(1, files.count());
+        }
+    }
+
+    @Test
+    void testCloseWithoutCommit() throws Exception {
+        try (var writer = new HashedFileWriter(outputDirectory, "index", ".json")) {
+            writer.getOutputStream().write("{}".getBytes());
+        }
+
+        try (var files = Files.list(outputDirectory)) {
+            assertEquals(0, files.count());
+        }
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright (C) 2025 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.kaoto.camelcatalog.generators;
+
+import org.apache.camel.catalog.DefaultCamelCatalog;
+import org.apache.camel.tooling.model.ComponentModel;
+import org.apache.camel.tooling.model.Kind;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CamelCatalogModelRegistryTest {
+    private CamelCatalogModelRegistry modelRegistry;
+
+    @BeforeEach
+    void setUp() {
+        modelRegistry = new CamelCatalogModelRegistry(new DefaultCamelCatalog());
+    }
+
+    @Test
+    void shouldMapJavaTypesAndModelNames() {
+        assertEquals("org.apache.camel.model.SetHeaderDefinition", modelRegistry.getJavaTypeByModelName("setHeader"));
+        assertEquals("setHeader",
+                modelRegistry.getEipModelByJavaType("org.apache.camel.model.SetHeaderDefinition").getName());
+    }
+
+    @Test
+    void shouldReuseParsedModels() {
+        assertSame(modelRegistry.getEipModel("setHeader"), modelRegistry.getEipModel("setHeader"));
+        assertSame(modelRegistry.getModel(Kind.component, "timer"), modelRegistry.getModel(Kind.component, "timer"));
+        assertInstanceOf(ComponentModel.class, modelRegistry.getModel(Kind.component, "timer"));
+    }
+
+    @Test
+    void shouldShareEipModelsBetweenKinds() {
+        assertSame(modelRegistry.getEipModel("setHeader"), modelRegistry.getModel(Kind.eip, "setHeader"));
+        assertSame(modelRegistry.getEipModel("setHeader"), modelRegistry.getModel(Kind.model, "setHeader"));
+    }
+
+    @Test
+    void shouldReturnIndependentCopiesOfTheJsonDefinitions() {
+        var setHeaderJson = modelRegistry.getModelJson("setHeader");
+        var timerJson = modelRegistry.getComponentJson("timer");
+        assertEquals("setHeader", setHeaderJson.withObject("model").get("name").asText());
+        assertEquals("timer", timerJson.withObject("component").get("name").asText());
+
+        setHeaderJson.removeAll();
+        timerJson.removeAll();
+
+        assertEquals("setHeader", modelRegistry.getModelJson("setHeader").withObject("model").get("name").asText());
+        assertEquals("timer", modelRegistry.getComponentJson("timer").withObject("component").get("name").asText());
+    }
+
+    @Test
+    void shouldReturnNullForUnknownModels() {
+        assertNull(modelRegistry.getEipModel("non-existing"));
+        assertNull(modelRegistry.getEipModel(null));
+        assertNull(modelRegistry.getEipModelByJavaType("org.example.NonExisting"));
+        assertNull(modelRegistry.getJavaTypeByModelName("non-existing"));
+        assertNull(modelRegistry.getModelJson("non-existing"));
+        assertNull(modelRegistry.getComponentJson("non-existing"));
+        assertNull(modelRegistry.getComponentModel("non-existing"));
+    }
+
+    @Test
+    void shouldShareModelsBetweenThreads() throws Exception {
+        var executorService = Executors.newFixedThreadPool(4);
+        try {
+            List<Callable<Object>> lookups = IntStream.range(0, 16)
+                    .<Callable<Object>>mapToObj(i -> () -> modelRegistry.getModel(Kind.component, "log"))
+                    .toList();
+
+            var expected = modelRegistry.getModel(Kind.component, "log");
+            for (var future : executorService.invokeAll(lookups)) {
+                assertSame(expected, future.get());
+            }
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+}
@@ -109,6 +109,36 @@ class CamelCatalogSchemaEnhancerTest {
         assertTrue(requiredProperties.contains("name"));
     }
 
+    @Test
+    void shouldKeepExistingRequiredPropertiesWithoutDuplicates() {
+        var setHeaderNode = (ObjectNode) camelYamlDslSchema
+                .get("items")
+                .get("definitions")
+                .get("org.apache.camel.model.SetHeaderDefinition").deepCopy();
+        setHeaderNode.putArray("required").add("expression").add("name");
+
+        camelCatalogSchemaEnhancer.fillRequiredPropertiesIfNeeded(Kind.eip, "setHeader", setHeaderNode);
+        camelCatalogSchemaEnhancer.fillRequiredPropertiesIfNeeded(Kind.eip, "setHeader", setHeaderNode);
+
+        List<String> requiredProperties = new ArrayList<>();
+        setHeaderNode.withArray("required").elements()
+                .forEachRemaining(node -> requiredProperties.add(node.asText()));
+
+        assertEquals(List.of("expression", "name"), requiredProperties);
+    }
+
+    @Test
+    void shouldFillRequiredPropertiesFromComponentEndpointOptions() {
+        var timerNode = new ObjectMapper().createObjectNode();
+        timerNode.withObject("properties").withObject("timerName").put("type", "string");
+        timerNode.withObject("properties").withObject("period").put("type", "duration");
+
+        camelCatalogSchemaEnhancer.fillRequiredPropertiesIfNeeded(Kind.component, "timer", timerNode);
+
+        assertEquals(1, timerNode.get("required").size());
+        assertEquals("timerName", timerNode.get("required").get(0).asText());
+    }
+
     @Test
     void shouldFillGroupInformationForModel() {
         var choiceNode = camelYamlDslSchema
@@ -9,6 +9,8 @@ import org.junit.jupiter.api.Test;
 
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -84,4 +86,70 @@ class CamelYAMLSchemaReaderTest {
         assertTrue(toEipSchema.has("properties"));
         assertTrue(toEipSchema.has("required"));
     }
+
+    @Test
+    void shouldResolveRefWithoutModifyingTheSchema() {
+        var refNode = new ObjectMapper().createObjectNode()
+                .put("$ref", "#/items/definitions/org.apache.camel.model.ToDefinition");
+        var sourceDefinition = camelYAMLSchemaReader.camelYamlSchemaNode.get("items").get("definitions")
+                .get("org.apache.camel.model.ToDefinition");
+        var sourceCopy = sourceDefinition.deepCopy();
+
+        var resolvedNode = camelYAMLSchemaReader.getResolvedNode(refNode);
+        assertEquals(sourceDefinition, resolvedNode);
+        assertNotSame(sourceDefinition, resolvedNode);
+
+        resolvedNode.remove("properties");
+        assertEquals(sourceCopy, sourceDefinition);
+    }
+
+    @Test
+    void shouldReadSchemasWithoutModifyingTheSchema() {
+        var sourceSchema = camelYAMLSchemaReader.camelYamlSchemaNode.deepCopy();
+
+        var choiceSchema = camelYAMLSchemaReader.getEIPJSONSchema("choice", "org.apache.camel.model.ChoiceDefinition");
+        assertFalse(choiceSchema.withObject("properties").has("when"));
+        assertNotNull(camelYAMLSchemaReader.getEntityJSONSchema("route"));
+        assertNotNull(camelYAMLSchemaReader.getRestProcessorJSONSchema("get"));
+
+        assertEquals(sourceSchema, camelYAMLSchemaReader.camelYamlSchemaNode);
+    }
+
+    @Test
+    void shouldMemoizeDefinitionsClosure() {
+        var ref = "#/items/definitions/org.apache.camel.model.ResequenceDefinition";
+        var closure = camelYAMLSchemaReader.getDefinitionsClosure(ref);
+
+        assertEquals("org.apache.camel.model.ResequenceDefinition", closure.get(0).name());
+        assertTrue(closure.stream().anyMatch(definition ->
+                definition.name().equals("org.apache.camel.model.config.BatchResequencerConfig")));
+        assertSame(closure, camelYAMLSchemaReader.getDefinitionsClosure(ref));
+    }
+
+    @Test
+    void shouldInlineCyclicDefinitions() throws IOException {
+        var schemaNode = (ObjectNode) new ObjectMapper().readTree("""
+                {
+                  "items": {
+                    "definitions": {
+                      "A": { "type": "object", "properties": { "b": { "$ref": "#/items/definitions/B" } } },
+                      "B": { "type": "object", "properties": { "a": { "$ref": "#/items/definitions/A" } } }
+                    },
+                    "properties": {
+                      "a": { "$ref": "#/items/definitions/A" }
+                    }
+                  }
+                }
+                """);
+        var reader = new CamelYAMLSchemaReader(schemaNode);
+
+        var entitySchema = reader.getEntityJSONSchema("a");
+
+        assertEquals("#/definitions/B", entitySchema.get("properties").get("b").get("$ref").asText());
+        var definitions = (ObjectNode) entitySchema.get("definitions");
+        assertEquals(List.of("B", "A"), definitions.properties().stream().map(Map.Entry::getKey).toList());
+        assertEquals("#/definitions/A", definitions.get("B").get("properties").get("a").get("$ref").asText());
+        assertEquals("#/items/definitions/B",
+                schemaNode.get("items").get("definitions").get("A").get("properties").get("b").get("$ref").asText());
+    }
 }
@@ -14,6 +14,7 @@ import org.junit.jupiter.api.Test;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
 import java.util.logging.Logger;
 import java.util.regex.Pattern;
 
@@ -52,6 +53,22 @@ public class ComponentGeneratorTest {
         assertTrue(componentsMap.containsKey("xslt"));
     }
 
+    @Test
+    void shouldGenerateTheSameComponentsInParallel() {
+        var expectedComponentsMap = componentGenerator.generate();
+
+        ForkJoinPool forkJoinPool = new ForkJoinPool(4);
+        try {
+            componentGenerator.setForkJoinPool(forkJoinPool);
+            var componentsMap = componentGenerator.generate();
+
+            assertEquals(List.copyOf(expectedComponentsMap.keySet()), List.copyOf(componentsMap.keySet()));
+            assertEquals(expectedComponentsMap, componentsMap);
+        } finally {
+            forkJoinPool.shutdownNow();
+        }
+    }
+
     @Test
     void shouldGetComponentJSONSchema() {
         var componentsMap = componentGenerator.generate();
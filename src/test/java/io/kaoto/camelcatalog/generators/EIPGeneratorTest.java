@@ -31,6 +31,7 @@ import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
 import java.util.logging.Logger;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -56,6 +57,22 @@ class EIPGeneratorTest {
         eipGenerator = new EIPGenerator(camelCatalog, camelYamlSchema, camelCatalogVersionLoader.getKaotoPatterns());
     }
 
+    @Test
+    void shouldGenerateTheSameProcessorsInParallel() {
+        var expectedProcessorsMap = eipGenerator.generate();
+
+        ForkJoinPool forkJoinPool = new ForkJoinPool(4);
+        try {
+            eipGenerator.setForkJoinPool(forkJoinPool);
+            var processorsMap = eipGenerator.generate();
+
+            assertEquals(List.copyOf(expectedProcessorsMap.keySet()), List.copyOf(processorsMap.keySet()));
+            assertEquals(expectedProcessorsMap, processorsMap);
+        } finally {
+            forkJoinPool.shutdownNow();
+        }
+    }
+
     @Test
     void shouldContainAListOfProcessors() {
         var processorsMap = eipGenerator.generate();
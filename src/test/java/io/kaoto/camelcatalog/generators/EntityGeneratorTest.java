@@ -31,6 +31,7 @@ import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
 import java.util.logging.Logger;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -54,7 +55,7 @@ class EntityGeneratorTest {
             camelYamlSchema = new String(is.readAllBytes(), StandardCharsets.UTF_8);
         }
 
-        try (var is = getClass().getClassLoader().getResourceAsStream("kubernetes-api-v1-openapi.json");) {
+        try (var is = getClass().getClassLoader().getResourceAsStream("kubernetes/kubernetes-api-v1-openapi.json");) {
             if (is == null) {
                 throw new IOException("Failed to load kubernetes-api-v1-openapi.json");
             }
@@ -65,6 +66,22 @@ class EntityGeneratorTest {
         entityGenerator = new EntityGenerator(camelCatalog, camelYamlSchema, openapiSpec, localSchemas);
     }
 
+    @Test
+    void shouldGenerateTheSameEntitiesInParallel() {
+        var expectedEntitiesMap = entityGenerator.generate();
+
+        ForkJoinPool forkJoinPool = new ForkJoinPool(4);
+        try {
+            entityGenerator.setForkJoinPool(forkJoinPool);
+            var entitiesMap = entityGenerator.generate();
+
+            assertEquals(List.copyOf(expectedEntitiesMap.keySet()), List.copyOf(entitiesMap.keySet()));
+            assertEquals(expectedEntitiesMap, entitiesMap);
+        } finally {
+            forkJoinPool.shutdownNow();
+        }
+    }
+
     @Test
     void shouldContainAListOfEntities() {
         var entitiesMap = entityGenerator.generate();
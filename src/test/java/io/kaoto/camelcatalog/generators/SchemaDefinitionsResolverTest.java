@@ -0,0 +1,77 @@
+/*
+ * Copyright (C) 2023 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.kaoto.camelcatalog.generators;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SchemaDefinitionsResolverTest {
+    private final ObjectMapper jsonMapper = new ObjectMapper();
+    private ObjectNode definitions;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        definitions = (ObjectNode) jsonMapper.readTree("""
+                {
+                  "A": { "properties": { "c": { "$ref": "#/definitions/C" }, "b": { "$ref": "#/definitions/B" } } },
+                  "B": { "properties": { "d": { "$ref": "#/definitions/D" }, "a": { "$ref": "#/definitions/A" } } },
+                  "C": { "type": "string" },
+                  "D": { "properties": { "blocked": { "$ref": "#/definitions/Blocked" } } }
+                }
+                """);
+    }
+
+    @Test
+    void shouldAddDefinitionsInDocumentOrder() throws IOException {
+        var schema = (ObjectNode) jsonMapper.readTree("""
+                { "properties": { "b": { "$ref": "#/definitions/B" }, "a": { "$ref": "#/definitions/A" } } }
+                """);
+
+        createResolver().populateDefinitions(schema);
+
+        var names = schema.get("definitions").properties().stream().map(Map.Entry::getKey).toList();
+        assertEquals(List.of("B", "A", "D", "C"), names);
+        assertSame(definitions.get("A"), schema.get("definitions").get("A"));
+    }
+
+    @Test
+    void shouldNotAddDefinitionsWithoutReferences() throws IOException {
+        var schema = (ObjectNode) jsonMapper.readTree("""
+                { "properties": { "name": { "type": "string" } } }
+                """);
+
+        createResolver().populateDefinitions(schema);
+
+        assertFalse(schema.has("definitions"));
+    }
+
+    private SchemaDefinitionsResolver createResolver() {
+        return new SchemaDefinitionsResolver(
+                refParent -> {
+                    var name = refParent.get("$ref").asText().replace("#/definitions/", "");
+                    return "Blocked".equals(name) ? null : name;
+                },
+                name -> definitions.withObject("/" + name));
+    }
+}
@@ -17,10 +17,14 @@ package io.kaoto.camelcatalog.maven;
 
 import io.kaoto.camelcatalog.model.CatalogRuntime;
 import io.kaoto.camelcatalog.model.MavenCoordinates;
+import org.apache.camel.catalog.DefaultCamelCatalog;
 import org.apache.camel.catalog.quarkus.QuarkusRuntimeProvider;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.List;
+import java.util.Set;
+
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.spy;
 
@@ -66,6 +70,25 @@ public class CamelCatalogVersionLoaderTest {
         assertTrue(camelCatalogVersionLoader.getKaotoPatterns().isEmpty());
     }
 
+    @Test
+    void testGetCamelYamlDslSchemaNodeInitiallyNull() {
+        assertNull(camelCatalogVersionLoader.getCamelYamlDslSchemaNode());
+    }
+
+    @Test
+    void testLoadCamelYamlDslNormalizesSchema() {
+        assertTrue(camelCatalogVersionLoader.loadCamelYamlDsl("4.12.0"));
+
+        var schema = camelCatalogVersionLoader.getCamelYamlDslSchema();
+        assertTrue(schema.contains("http://json-schema.org/draft-07/schema#"));
+        assertFalse(schema.contains("http://json-schema.org/draft-04/schema#"));
+
+        var schemaNode = camelCatalogVersionLoader.getCamelYamlDslSchemaNode();
+        assertNotNull(schemaNode);
+        assertEquals("http://json-schema.org/draft-07/schema#", schemaNode.get("$schema").asText());
+        assertTrue(schemaNode.get("items").has("definitions"));
+    }
+
     @Test
     void testLoadCamelCatalogSetRuntime() {
         camelCatalogVersionLoader = new CamelCatalogVersionLoader(CatalogRuntime.Quarkus, false);
@@ -77,9 +100,86 @@ public class CamelCatalogVersionLoaderTest {
                 camelCatalogVersionLoader.getCamelCatalog().getRuntimeProvider());
     }
 
+    @Test
+    void testLoadCamelCatalogServesPreloadedDescriptors() {
+        var referenceCatalog = new DefaultCamelCatalog();
+
+        camelCatalogVersionLoader.loadCamelCatalog(null);
+
+        var camelCatalog = camelCatalogVersionLoader.getCamelCatalog();
+        assertEquals(referenceCatalog.componentJSonSchema("timer"), camelCatalog.componentJSonSchema("timer"));
+        assertEquals(referenceCatalog.dataFormatJSonSchema("csv"), camelCatalog.dataFormatJSonSchema("csv"));
+        assertEquals(referenceCatalog.languageJSonSchema("simple"), camelCatalog.languageJSonSchema("simple"));
+        assertEquals(referenceCatalog.modelJSonSchema("setHeader"), camelCatalog.modelJSonSchema("setHeader"));
+    }
+
+    @Test
+    void testGetArtifactRequests() {
+        var requests = CamelCatalogVersionLoader.getArtifactRequests(CatalogRuntime.Quarkus, "3.20.0.redhat-00001",
+                "4.16.0", "2.3.1");
+
+        assertEquals(List.of("org.apache.camel.quarkus:camel-quarkus-catalog:3.20.0.redhat-00001",
+                        "org.apache.camel.quarkus:camel-quarkus-yaml-dsl:3.20.0.redhat-00001",
+                        "org.apache.camel.kamelets:camel-kamelets:4.16.0",
+                        "org.apache.camel.k:camel-k-crds:2.3.1"),
+                requests.stream().map(MavenArtifactResolver.Request::gav).toList());
+        assertEquals(Set.of("https://repo1.maven.org/maven2/", "https://maven.repository.redhat.com/ga/"),
+                requests.get(0).repositories());
+        assertTrue(requests.stream().allMatch(MavenArtifactResolver.Request::transitive));
+    }
+
+    @Test
+    void testGetArtifactRequestsWithInstalledKamelets() {
+        var requests = CamelCatalogVersionLoader.getArtifactRequests(CatalogRuntime.Main, "4.16.0", null, "2.3.1");
+
+        assertEquals(List.of("org.apache.camel:camel-catalog:4.16.0", "org.apache.camel:camel-yaml-dsl:4.16.0",
+                        "org.apache.camel.k:camel-k-crds:2.3.1"),
+                requests.stream().map(MavenArtifactResolver.Request::gav).toList());
+    }
+
+    @Test
+    void testGetArtifactRequestsTargeted() {
+        var requests = CamelCatalogVersionLoader.getArtifactRequests(CatalogRuntime.Quarkus, "3.30.0", "4.16.0",
+                "2.3.1", ResolutionProfile.TARGETED);
+
+        assertEquals(List.of("org.apache.camel.quarkus:camel-quarkus-catalog:3.30.0",
+                        "org.apache.camel.quarkus:camel-quarkus-yaml-dsl:3.30.0",
+                        "org.apache.camel.kamelets:camel-kamelets:4.16.0",
+                        "org.apache.camel.k:camel-k-crds:2.3.1"),
+                requests.stream().map(MavenArtifactResolver.Request::gav).toList());
+        assertEquals(List.of(false, false, false, false),
+                requests.stream().map(MavenArtifactResolver.Request::transitive).toList());
+        assertEquals(List.of(Set.of("org.apache.camel:camel-catalog"), Set.of("org.apache.camel:camel-yaml-dsl"),
+                        Set.of(), Set.of()),
+                requests.stream().map(MavenArtifactResolver.Request::dependencies).toList());
+    }
+
+    @Test
+    void testGetArtifactRequestsTargetedMain() {
+        var requests = CamelCatalogVersionLoader.getArtifactRequests(CatalogRuntime.Main, "4.16.0", null, "2.3.1",
+                ResolutionProfile.TARGETED);
+
+        assertEquals(List.of("org.apache.camel:camel-catalog:4.16.0", "org.apache.camel:camel-yaml-dsl:4.16.0",
+                        "org.apache.camel.k:camel-k-crds:2.3.1"),
+                requests.stream().map(MavenArtifactResolver.Request::gav).toList());
+        assertEquals(List.of(false, false, false),
+                requests.stream().map(MavenArtifactResolver.Request::transitive).toList());
+        assertEquals(List.of(Set.of(), Set.of(), Set.of()),
+                requests.stream().map(MavenArtifactResolver.Request::dependencies).toList());
+    }
+
+    @Test
+    void testSetResolutionProfile() {
+        assertEquals(ResolutionProfile.FULL, camelCatalogVersionLoader.getResolutionProfile());
+
+        camelCatalogVersionLoader.setResolutionProfile(ResolutionProfile.TARGETED);
+
+        assertEquals(ResolutionProfile.TARGETED, camelCatalogVersionLoader.getResolutionProfile());
+    }
+
     @Test
     void testGetCatalogMavenCoordinatesMain() {
-        MavenCoordinates coords = camelCatalogVersionLoader
+        MavenCoordinates coords = CamelCatalogVersionLoader
                 .getCatalogMavenCoordinates(CatalogRuntime.Main, "4.12.0");
         assertNotNull(coords);
         assertEquals("org.apache.camel", coords.getGroupId());
@@ -89,7 +189,7 @@ public class CamelCatalogVersionLoaderTest {
 
     @Test
     void testGetCatalogMavenCoordinatesQuarkus() {
-        MavenCoordinates coords = camelCatalogVersionLoader
+        MavenCoordinates coords = CamelCatalogVersionLoader
                 .getCatalogMavenCoordinates(CatalogRuntime.Quarkus, "3.20.0");
         assertNotNull(coords);
         assertEquals("org.apache.camel.quarkus", coords.getGroupId());
@@ -99,7 +199,7 @@ public class CamelCatalogVersionLoaderTest {
 
     @Test
     void testGetCatalogMavenCoordinatesSpringBoot() {
-        MavenCoordinates coords = camelCatalogVersionLoader
+        MavenCoordinates coords = CamelCatalogVersionLoader
                 .getCatalogMavenCoordinates(CatalogRuntime.SpringBoot, "4.12.0");
         assertNotNull(coords);
         assertEquals("org.apache.camel.springboot", coords.getGroupId());
@@ -109,7 +209,7 @@ public class CamelCatalogVersionLoaderTest {
 
     @Test
     void testGetYamlDslMavenCoordinatesMain() {
-        MavenCoordinates coords = camelCatalogVersionLoader
+        MavenCoordinates coords = CamelCatalogVersionLoader
                 .getYamlDslMavenCoordinates(CatalogRuntime.Main, "4.12.0");
         assertNotNull(coords);
         assertEquals("org.apache.camel", coords.getGroupId());
@@ -119,7 +219,7 @@ public class CamelCatalogVersionLoaderTest {
 
     @Test
     void testGetYamlDslMavenCoordinatesQuarkus() {
-        MavenCoordinates coords = camelCatalogVersionLoader
+        MavenCoordinates coords = CamelCatalogVersionLoader
                 .getYamlDslMavenCoordinates(CatalogRuntime.Quarkus, "3.20.0");
         assertNotNull(coords);
         assertEquals("org.apache.camel.quarkus", coords.getGroupId());
@@ -129,7 +229,7 @@ public class CamelCatalogVersionLoaderTest {
 
     @Test
     void testGetYamlDslMavenCoordinatesSpringBoot() {
-        MavenCoordinates coords = camelCatalogVersionLoader
+        MavenCoordinates coords = CamelCatalogVersionLoader
                 .getYamlDslMavenCoordinates(CatalogRuntime.SpringBoot, "4.12.0");
         assertNotNull(coords);
         assertEquals("org.apache.camel.springboot", coords.getGroupId());
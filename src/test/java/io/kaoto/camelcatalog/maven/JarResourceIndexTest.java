@@ -0,0 +1,112 @@
+/*
+ * Copyright (C) 2025 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.kaoto.camelcatalog.maven;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JarResourceIndexTest {
+    @TempDir
+    Path tempDirectory;
+
+    @Test
+    void testGetResource() throws IOException {
+        var classLoader = new KaotoOpenURLClassLoader();
+        classLoader.addURL(createJar("camel-yaml-dsl", "4.14.0", Map.of("schema/camelYamlDsl.json", "4.14.0")));
+        classLoader.addURL(createJar("camel-yaml-dsl", "4.16.0", Map.of("schema/camelYamlDsl.json", "4.16.0")));
+        var resourceIndex = JarResourceIndex.of(classLoader);
+
+        assertEquals("4.16.0", read(resourceIndex.getResource("schema/camelYamlDsl.json", "4.16.0")));
+        assertEquals("4.14.0", read(resourceIndex.getResource("schema/camelYamlDsl.json", "4.14.0")));
+        assertNull(resourceIndex.getResource("schema/camelYamlDsl.json", "4.16"));
+        assertNull(resourceIndex.getResource("schema/missing.json", "4.16.0"));
+    }
+
+    @Test
+    void testGetResourcesLastJarWins() throws IOException {
+        var classLoader = new KaotoOpenURLClassLoader();
+        classLoader.addURL(createJar("camel-kamelets", "4.14.0",
+                Map.of("kamelets/a.kamelet.yaml", "a-4.14.0", "kamelets/b.kamelet.yaml", "b-4.14.0")));
+        classLoader.addURL(createJar("camel-kamelets", "4.16.0",
+                Map.of("kamelets/b.kamelet.yaml", "b-4.16.0", "kamelets-other/c.kamelet.yaml", "c-4.16.0")));
+
+        Map<String, URL> resources = JarResourceIndex.of(classLoader).getResources("kamelets");
+
+        assertEquals(List.of("kamelets/a.kamelet.yaml", "kamelets/b.kamelet.yaml"), List.copyOf(resources.keySet()));
+        assertEquals("a-4.14.0", read(resources.get("kamelets/a.kamelet.yaml")));
+        assertEquals("b-4.16.0", read(resources.get("kamelets/b.kamelet.yaml")));
+    }
+
+    @Test
+    void testClassesAreNotIndexed() throws IOException {
+        var classLoader = new KaotoOpenURLClassLoader();
+        classLoader.addURL(createJar("camel-catalog", "4.16.0",
+                Map.of("org/apache/camel/catalog/CamelCatalog.class", "", "org/apache/camel/catalog/models/a.json", "")));
+
+        assertEquals(List.of("org/apache/camel/catalog/models/a.json"),
+                List.copyOf(JarResourceIndex.of(classLoader).getResources("org/apache/camel/catalog").keySet()));
+    }
+
+    @Test
+    void testOfOtherClassLoader() {
+        assertNull(JarResourceIndex.of(getClass().getClassLoader()));
+    }
+
+    @Test
+    void testGetVersion() {
+        assertEquals("4.16.0", JarResourceIndex.getVersion(
+                new File("/repository/org/apache/camel/camel-catalog/4.16.0/camel-catalog-4.16.0.jar")));
+        assertEquals("4.16.0-SNAPSHOT", JarResourceIndex.getVersion(new File(
+                "/repository/org/apache/camel/camel-catalog/4.16.0-SNAPSHOT/camel-catalog-4.16.0-SNAPSHOT.jar")));
+        assertNull(JarResourceIndex.getVersion(new File("/lib/camel-catalog-4.16.0.jar")));
+    }
+
+    private URL createJar(String artifactId, String version, Map<String, String> entries) throws IOException {
+        Path folder = Files.createDirectories(tempDirectory.resolve(artifactId).resolve(version));
+        Path jar = folder.resolve(artifactId + "-" + version + ".jar");
+
+        try (OutputStream outputStream = Files.newOutputStream(jar);
+             JarOutputStream jarOutputStream = new JarOutputStream(outputStream)) {
+            for (Map.Entry<String, String> entry : entries.entrySet()) {
+                jarOutputStream.putNextEntry(new JarEntry(entry.getKey()));
+                jarOutputStream.write(entry.getValue().getBytes(StandardCharsets.UTF_8));
+                jarOutputStream.closeEntry();
+            }
+        }
+        return jar.toUri().toURL();
+    }
+
+    private static String read(URL url) throws IOException {
+        try (InputStream inputStream = url.openStream()) {
+            return new String(inputStream.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}
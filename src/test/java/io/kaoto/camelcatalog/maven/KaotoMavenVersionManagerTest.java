@@ -0,0 +1,84 @@
+/*
+ * Copyright (C) 2025 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.kaoto.camelcatalog.maven;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class KaotoMavenVersionManagerTest {
+    private static final Set<String> REPOSITORIES = Set.of("https://repo1.maven.org/maven2/");
+
+    @Test
+    void testDefaultResolutionProfile() {
+        var versionManager = new KaotoMavenVersionManager();
+
+        assertEquals(ResolutionProfile.FULL, versionManager.getResolutionProfile());
+    }
+
+    @Test
+    void testGetTargetedRequestCatalog() {
+        var request = KaotoMavenVersionManager.getTargetedRequest("org.apache.camel.quarkus", "camel-quarkus-catalog",
+                "3.30.0", REPOSITORIES);
+
+        assertEquals("org.apache.camel.quarkus:camel-quarkus-catalog:3.30.0", request.gav());
+        assertEquals(REPOSITORIES, request.repositories());
+        assertFalse(request.transitive());
+        assertEquals(Set.of("org.apache.camel:camel-catalog"), request.dependencies());
+    }
+
+    @Test
+    void testGetTargetedRequestCamelCatalog() {
+        var request = KaotoMavenVersionManager.getTargetedRequest("org.apache.camel", "camel-catalog", "4.16.0",
+                REPOSITORIES);
+
+        assertEquals("org.apache.camel:camel-catalog:4.16.0", request.gav());
+        assertFalse(request.transitive());
+        assertEquals(Set.of(), request.dependencies());
+    }
+
+    @Test
+    void testGetTargetedRequestYamlDslRuntimeProvider() {
+        var request = KaotoMavenVersionManager.getTargetedRequest("org.apache.camel.springboot",
+                "camel-yaml-dsl-starter", "4.16.0", REPOSITORIES);
+
+        assertEquals("org.apache.camel.springboot:camel-yaml-dsl-starter:4.16.0", request.gav());
+        assertFalse(request.transitive());
+        assertEquals(Set.of("org.apache.camel:camel-yaml-dsl"), request.dependencies());
+    }
+
+    @Test
+    void testGetTargetedRequestCamelYamlDsl() {
+        var request = KaotoMavenVersionManager.getTargetedRequest("org.apache.camel", "camel-yaml-dsl", "4.14.0",
+                REPOSITORIES);
+
+        assertEquals("org.apache.camel:camel-yaml-dsl:4.14.0", request.gav());
+        assertFalse(request.transitive());
+        assertEquals(Set.of(), request.dependencies());
+    }
+
+    @Test
+    void testGetTargetedRequestOtherArtifact() {
+        var request = KaotoMavenVersionManager.getTargetedRequest("org.apache.camel.k", "camel-k-crds", "2.3.1",
+                REPOSITORIES);
+
+        assertEquals("org.apache.camel.k:camel-k-crds:2.3.1", request.gav());
+        assertFalse(request.transitive());
+        assertEquals(Set.of(), request.dependencies());
+    }
+}
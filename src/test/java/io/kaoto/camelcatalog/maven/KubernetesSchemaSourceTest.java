@@ -0,0 +1,115 @@
+/*
+ * Copyright (C) 2025 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.kaoto.camelcatalog.maven;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class KubernetesSchemaSourceTest {
+    @TempDir
+    Path tempDirectory;
+
+    @Test
+    void testBundled() throws IOException {
+        var schema = KubernetesSchemaSource.bundled().load();
+
+        assertTrue(schema.contains("io.k8s.apimachinery.pkg.apis.meta.v1.ObjectMeta"));
+    }
+
+    @Test
+    void testDefaultIsShared() throws IOException {
+        assertSame(KubernetesSchemaSource.getDefault().load(), KubernetesSchemaSource.getDefault().load());
+    }
+
+    @Test
+    void testSharedLoadsOnce() throws IOException {
+        var loads = new AtomicInteger();
+        var source = KubernetesSchemaSource.shared(() -> "{\"loads\":" + loads.incrementAndGet() + "}");
+
+        assertEquals("{\"loads\":1}", source.load());
+        assertEquals("{\"loads\":1}", source.load());
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void testSharedRetriesAfterFailure() throws IOException {
+        var loads = new AtomicInteger();
+        var source = KubernetesSchemaSource.shared(() -> {
+            if (loads.incrementAndGet() == 1) {
+                throw new IOException("Network is unreachable");
+            }
+            return "{}";
+        });
+
+        assertThrows(IOException.class, source::load);
+        assertEquals("{}", source.load());
+    }
+
+    @Test
+    void testDownloadedIsCached() throws IOException {
+        var remoteFile = Files.writeString(tempDirectory.resolve("remote.json"), "{\"version\":1}");
+        var cacheDirectory = tempDirectory.resolve("cache");
+
+        assertEquals("{\"version\":1}",
+                KubernetesSchemaSource.downloaded(remoteFile.toUri(), cacheDirectory, false).load());
+
+        Files.writeString(remoteFile, "{\"version\":2}");
+        assertEquals("{\"version\":1}",
+                KubernetesSchemaSource.downloaded(remoteFile.toUri(), cacheDirectory, false).load());
+        assertEquals("{\"version\":2}",
+                KubernetesSchemaSource.downloaded(remoteFile.toUri(), cacheDirectory, true).load());
+        assertEquals("{\"version\":2}",
+                KubernetesSchemaSource.downloaded(remoteFile.toUri(), cacheDirectory, false).load());
+    }
+
+    @Test
+    void testStored() throws IOException {
+        var directory = tempDirectory.resolve("repository").resolve("kubernetes");
+        KubernetesSchemaSource.store(directory, "{\"version\":1}");
+
+        assertEquals("{\"version\":1}", KubernetesSchemaSource.stored(directory).load());
+    }
+
+    @Test
+    void testStoredFailsWhenMissingOrCorrupted() throws IOException {
+        var directory = tempDirectory.resolve("repository").resolve("kubernetes");
+        assertThrows(IOException.class, () -> KubernetesSchemaSource.stored(directory).load());
+
+        KubernetesSchemaSource.store(directory, "{\"version\":1}");
+        Files.writeString(directory.resolve("api__v1_openapi.json"), "{\"vers");
+        assertThrows(IOException.class, () -> KubernetesSchemaSource.stored(directory).load());
+    }
+
+    @Test
+    void testDownloadedAgainWhenCorrupted() throws IOException {
+        var remoteFile = Files.writeString(tempDirectory.resolve("remote.json"), "{\"version\":1}");
+        var cacheDirectory = tempDirectory.resolve("cache");
+        KubernetesSchemaSource.downloaded(remoteFile.toUri(), cacheDirectory, false).load();
+
+        Files.writeString(cacheDirectory.resolve("api__v1_openapi.json"), "{\"vers");
+        Files.writeString(remoteFile, "{\"version\":2}");
+
+        assertEquals("{\"version\":2}",
+                KubernetesSchemaSource.downloaded(remoteFile.toUri(), cacheDirectory, false).load());
+    }
+}
@@ -0,0 +1,230 @@
+/*
+ * Copyright (C) 2025 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.kaoto.camelcatalog.maven;
+
+import org.apache.camel.tooling.maven.MavenArtifact;
+import org.apache.camel.tooling.maven.MavenDownloader;
+import org.apache.camel.tooling.maven.MavenGav;
+import org.apache.camel.tooling.maven.MavenResolutionException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class MavenArtifactResolverTest {
+    private static final String KAMELETS_GAV = "org.apache.camel.kamelets:camel-kamelets:4.16.0";
+
+    @TempDir
+    Path tempDirectory;
+
+    private MavenDownloader downloader;
+    private File kameletsJar;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        kameletsJar = Files.createFile(tempDirectory.resolve("camel-kamelets-4.16.0.jar")).toFile();
+        downloader = mock(MavenDownloader.class);
+        when(downloader.resolveArtifacts(anyList(), anySet(), anyBoolean(), anyBoolean())).thenAnswer(invocation -> {
+            String gav = invocation.<List<String>>getArgument(0).get(0);
+            return List.of(new MavenArtifact(MavenGav.parseGav(gav), kameletsJar));
+        });
+    }
+
+    @Test
+    void shouldResolveOnce() throws Exception {
+        var artifactResolver = new MavenArtifactResolver(downloader);
+
+        assertEquals(List.of(kameletsJar), artifactResolver.resolve(KAMELETS_GAV, Set.of(), false, true));
+        assertEquals(List.of(kameletsJar), artifactResolver.resolve(KAMELETS_GAV, Set.of(), false, true));
+
+        verify(downloader, times(1)).resolveArtifacts(anyList(), anySet(), anyBoolean(), anyBoolean());
+    }
+
+    @Test
+    void shouldResolveAllConcurrently() throws Exception {
+        var artifactResolver = new MavenArtifactResolver(downloader);
+        var kameletsRequest = MavenArtifactResolver.Request.of("org.apache.camel.kamelets", "camel-kamelets", "4.16.0",
+                Set.of());
+        var catalogRequest = MavenArtifactResolver.Request.of("org.apache.camel", "camel-catalog", "4.16.0",
+                Set.of());
+        when(downloader.resolveArtifacts(eq(List.of(catalogRequest.gav())), anySet(), anyBoolean(), anyBoolean()))
+                .thenThrow(new MavenResolutionException("Network is unreachable"));
+
+        ExecutorService executorService = Executors.newFixedThreadPool(2);
+        try {
+            assertEquals(1, artifactResolver.resolveAll(List.of(kameletsRequest, catalogRequest, kameletsRequest),
+                    executorService));
+        } finally {
+            executorService.shutdownNow();
+        }
+
+        assertEquals(List.of(kameletsJar), artifactResolver.resolve(KAMELETS_GAV, Set.of(), false, true));
+        verify(downloader, times(1)).resolveArtifacts(eq(List.of(KAMELETS_GAV)), anySet(), anyBoolean(),
+                anyBoolean());
+    }
+
+    @Test
+    void shouldResolveDependenciesAtTheirPomVersions() throws Exception {
+        var artifactResolver = new MavenArtifactResolver(downloader);
+        var parentPom = Files.writeString(tempDirectory.resolve("camel-quarkus-parent-3.30.0.pom"), """
+                <project>
+                  <modelVersion>4.0.0</modelVersion>
+                  <groupId>org.apache.camel.quarkus</groupId>
+                  <artifactId>camel-quarkus-parent</artifactId>
+                  <version>3.30.0</version>
+                  <packaging>pom</packaging>
+                  <properties>
+                    <camel.version>4.16.0</camel.version>
+                  </properties>
+                  <dependencyManagement>
+                    <dependencies>
+                      <dependency>
+                        <groupId>org.apache.camel</groupId>
+                        <artifactId>camel-catalog</artifactId>
+                        <version>${camel.version}</version>
+                      </dependency>
+                    </dependencies>
+                  </dependencyManagement>
+                </project>
+                """).toFile();
+        var catalogPom = Files.writeString(tempDirectory.resolve("camel-quarkus-catalog-3.30.0.pom"), """
+                <project>
+                  <modelVersion>4.0.0</modelVersion>
+                  <parent>
+                    <groupId>org.apache.camel.quarkus</groupId>
+                    <artifactId>camel-quarkus-parent</artifactId>
+                    <version>3.30.0</version>
+                  </parent>
+                  <artifactId>camel-quarkus-catalog</artifactId>
+                  <dependencies>
+                    <dependency>
+                      <groupId>org.apache.camel</groupId>
+                      <artifactId>camel-catalog</artifactId>
+                    </dependency>
+                  </dependencies>
+                </project>
+                """).toFile();
+        when(downloader.resolveArtifacts(eq(List.of("org.apache.camel.quarkus:camel-quarkus-parent:pom:3.30.0")),
+                anySet(), anyBoolean(), anyBoolean()))
+                .thenReturn(List.of(new MavenArtifact(new MavenGav(), parentPom)));
+        when(downloader.resolveArtifacts(eq(List.of("org.apache.camel.quarkus:camel-quarkus-catalog:pom:3.30.0")),
+                anySet(), anyBoolean(), anyBoolean()))
+                .thenReturn(List.of(new MavenArtifact(new MavenGav(), catalogPom)));
+
+        var request = MavenArtifactResolver.Request.of("org.apache.camel.quarkus", "camel-quarkus-catalog", "3.30.0",
+                Set.of(), Set.of("org.apache.camel:camel-catalog"));
+
+        assertEquals(List.of(kameletsJar, kameletsJar), artifactResolver.resolve(request));
+        verify(downloader).resolveArtifacts(List.of("org.apache.camel.quarkus:camel-quarkus-catalog:3.30.0"), Set.of(),
+                false, false);
+        verify(downloader).resolveArtifacts(List.of("org.apache.camel:camel-catalog:4.16.0"), Set.of(), false, false);
+    }
+
+    @Test
+    void shouldFailWhenTheDependencyIsNotDeclared() throws Exception {
+        var artifactResolver = new MavenArtifactResolver(downloader);
+        var pom = Files.writeString(tempDirectory.resolve("camel-k-crds-2.3.1.pom"), """
+                <project>
+                  <modelVersion>4.0.0</modelVersion>
+                  <groupId>org.apache.camel.k</groupId>
+                  <artifactId>camel-k-crds</artifactId>
+                  <version>2.3.1</version>
+                </project>
+                """).toFile();
+        when(downloader.resolveArtifacts(eq(List.of("org.apache.camel.k:camel-k-crds:pom:2.3.1")), anySet(),
+                anyBoolean(), anyBoolean()))
+                .thenReturn(List.of(new MavenArtifact(new MavenGav(), pom)));
+
+        var request = MavenArtifactResolver.Request.of("org.apache.camel.k", "camel-k-crds", "2.3.1", Set.of(),
+                Set.of("org.apache.camel:camel-catalog"));
+
+        assertThrows(MavenResolutionException.class, () -> artifactResolver.resolve(request));
+    }
+
+    @Test
+    void shouldResolveOnlyFromOfflineRepository() throws Exception {
+        var artifactResolver = new MavenArtifactResolver(downloader);
+        var offlineRepository = Files.createDirectory(tempDirectory.resolve("repository"));
+        artifactResolver.setOfflineRepository(offlineRepository);
+
+        assertEquals(List.of(kameletsJar),
+                artifactResolver.resolve(KAMELETS_GAV, Set.of("https://repo1.maven.org/maven2/"), false, true));
+
+        verify(downloader).resolveArtifacts(List.of(KAMELETS_GAV), Set.of(offlineRepository.toUri().toString()),
+                true, false);
+    }
+
+    @Test
+    void shouldAlwaysResolveSnapshots() throws Exception {
+        var artifactResolver = new MavenArtifactResolver(downloader);
+
+        artifactResolver.resolve("org.apache.camel:camel-catalog:4.17.0-SNAPSHOT", Set.of(), true, true);
+        artifactResolver.resolve("org.apache.camel:camel-catalog:4.17.0-SNAPSHOT", Set.of(), true, true);
+
+        verify(downloader, times(2)).resolveArtifacts(anyList(), anySet(), anyBoolean(), anyBoolean());
+    }
+
+    @Test
+    void shouldResolveAgainAfterFailure() throws Exception {
+        var artifactResolver = new MavenArtifactResolver(downloader);
+        when(downloader.resolveArtifacts(anyList(), anySet(), anyBoolean(), anyBoolean()))
+                .thenThrow(new MavenResolutionException("Network is unreachable"))
+                .thenReturn(List.of(new MavenArtifact(MavenGav.parseGav(KAMELETS_GAV), kameletsJar)));
+
+        assertThrows(MavenResolutionException.class,
+                () -> artifactResolver.resolve(KAMELETS_GAV, Set.of(), false, true));
+        assertEquals(List.of(kameletsJar), artifactResolver.resolve(KAMELETS_GAV, Set.of(), false, true));
+    }
+
+    @Test
+    void shouldReusePersistedArtifacts() throws Exception {
+        var cacheFile = tempDirectory.resolve("maven-artifacts.json");
+        var artifactResolver = new MavenArtifactResolver(downloader);
+        artifactResolver.setCacheFile(cacheFile);
+        artifactResolver.resolve(KAMELETS_GAV, Set.of(), false, true);
+        artifactResolver.save();
+
+        var nextRunDownloader = mock(MavenDownloader.class);
+        var nextRunArtifactResolver = new MavenArtifactResolver(nextRunDownloader);
+        nextRunArtifactResolver.setCacheFile(cacheFile);
+
+        assertEquals(List.of(kameletsJar.getAbsoluteFile()),
+                nextRunArtifactResolver.resolve(KAMELETS_GAV, Set.of(), false, true));
+        verifyNoInteractions(nextRunDownloader);
+    }
+
+    @Test
+    void shouldResolveAgainWhenFilesAreGone() throws Exception {
+        var artifactResolver = new MavenArtifactResolver(downloader);
+        artifactResolver.resolve(KAMELETS_GAV, Set.of(), false, true);
+
+        Files.delete(kameletsJar.toPath());
+        artifactResolver.resolve(KAMELETS_GAV, Set.of(), false, true);
+
+        verify(downloader, times(2)).resolveArtifacts(anyList(), anySet(), anyBoolean(), anyBoolean());
+    }
+}
@@ -0,0 +1,46 @@
+package io.kaoto.camelcatalog.versions;
+
+import io.kaoto.camelcatalog.maven.CamelCatalogVersionLoader;
+import io.kaoto.camelcatalog.maven.MavenArtifactResolver;
+import io.kaoto.camelcatalog.maven.ResolutionProfile;
+import io.kaoto.camelcatalog.model.CatalogRuntime;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ResolutionProfileComparisonTest {
+
+    @ParameterizedTest
+    @CsvSource({
+            "Quarkus, 3.30.0",
+            "SpringBoot, 4.16.0",
+            "Quarkus, 3.20.0",
+    })
+    void testTargetedLoadsTheSameCatalogAsFull(CatalogRuntime runtime, String version) {
+        var artifactResolver = new MavenArtifactResolver();
+        CamelCatalogVersionLoader fullLoader = load(runtime, version, ResolutionProfile.FULL, artifactResolver);
+        CamelCatalogVersionLoader targetedLoader = load(runtime, version, ResolutionProfile.TARGETED,
+                artifactResolver);
+
+        assertNotNull(fullLoader.getCamelYamlDslSchema());
+        assertEquals(fullLoader.getCamelYamlDslSchema(), targetedLoader.getCamelYamlDslSchema());
+        assertEquals(fullLoader.getCamelCatalog().getCatalogVersion(),
+                targetedLoader.getCamelCatalog().getCatalogVersion());
+        assertEquals(fullLoader.getCamelCatalog().findComponentNames(),
+                targetedLoader.getCamelCatalog().findComponentNames());
+    }
+
+    private static CamelCatalogVersionLoader load(CatalogRuntime runtime, String version,
+                                                  ResolutionProfile resolutionProfile,
+                                                  MavenArtifactResolver artifactResolver) {
+        var loader = new CamelCatalogVersionLoader(runtime, false, artifactResolver);
+        loader.setResolutionProfile(resolutionProfile);
+
+        assertTrue(loader.loadCamelCatalog(version), "The catalog wasn't loaded");
+        assertTrue(loader.loadCamelYamlDsl(version), "The Camel YAML DSL schema wasn't loaded");
+        return loader;
+    }
+}